@@ -0,0 +1,32 @@
+package org.hrorm.benchmark;
+
+import org.hrorm.database.HelperFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Opens in-memory H2 databases built from the test schemas, so
+ * benchmarks measure hrorm rather than disk access.
+ */
+public class BenchmarkDatabase {
+
+    // hrorm logs every statement at INFO, which would otherwise be measured
+    // along with it; the reference is kept so the level is not collected
+    private static final Logger HRORM_LOGGER = Logger.getLogger("org.hrorm");
+
+    public static Connection connect(String schemaName) throws SQLException {
+        HRORM_LOGGER.setLevel(Level.WARNING);
+        String url = "jdbc:h2:mem:" + schemaName + "_" + System.nanoTime();
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(HelperFactory.h2Helper(schemaName).readSchema());
+        }
+        connection.setAutoCommit(false);
+        return connection;
+    }
+}
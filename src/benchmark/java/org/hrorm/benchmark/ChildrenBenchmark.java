@@ -0,0 +1,90 @@
+package org.hrorm.benchmark;
+
+import org.hrorm.Dao;
+import org.hrorm.examples.EnumeratedColor;
+import org.hrorm.examples.parentage.Child;
+import org.hrorm.examples.parentage.Grandchild;
+import org.hrorm.examples.parentage.Parent;
+import org.hrorm.examples.parentage.ParentChildBuilders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading parents together with their children and
+ * grandchildren, which exercises <code>ChildrenDescriptor</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChildrenBenchmark {
+
+    private static final EnumeratedColor[] COLORS =
+            { EnumeratedColor.Red, EnumeratedColor.Green, EnumeratedColor.Blue };
+
+    @Param({"100"})
+    public int parentCount;
+
+    @Param({"5"})
+    public int childCount;
+
+    private Connection connection;
+    private Dao<Parent> dao;
+    private long firstId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect("parents");
+        dao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+        for ( int parentIdx = 0; parentIdx < parentCount; parentIdx++ ){
+            Parent parent = new Parent();
+            parent.setName("Parent " + parentIdx);
+            List<Child> children = new ArrayList<>();
+            for ( int childIdx = 0; childIdx < childCount; childIdx++ ){
+                Child child = new Child();
+                child.setNumber((long) childIdx);
+                List<Grandchild> grandchildren = new ArrayList<>();
+                for ( EnumeratedColor color : COLORS ){
+                    Grandchild grandchild = new Grandchild();
+                    grandchild.setColor(color);
+                    grandchildren.add(grandchild);
+                }
+                child.setGrandchildList(grandchildren);
+                children.add(child);
+            }
+            parent.setChildList(children);
+            long id = dao.insert(parent);
+            if ( parentIdx == 0 ){
+                firstId = id;
+            }
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Parent selectOne() {
+        return dao.select(firstId);
+    }
+
+    @Benchmark
+    public List<Parent> selectAll() {
+        return dao.selectAll();
+    }
+}
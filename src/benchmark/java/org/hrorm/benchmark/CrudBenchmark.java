@@ -0,0 +1,96 @@
+package org.hrorm.benchmark;
+
+import org.hrorm.Dao;
+import org.hrorm.examples.Columns;
+import org.hrorm.examples.ColumnsDaoBuilder;
+import org.hrorm.examples.EnumeratedColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures inserting and selecting a flat entity with one column of
+ * each of the built in types against in-memory H2. Selecting many rows
+ * is dominated by mapping each row of the <code>ResultSet</code> onto
+ * a new entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrudBenchmark {
+
+    private static final EnumeratedColor[] COLORS =
+            { EnumeratedColor.Red, EnumeratedColor.Green, EnumeratedColor.Blue };
+
+    @Param({"1000"})
+    public int rowCount;
+
+    private Connection connection;
+    private Dao<Columns> dao;
+    private List<Long> ids;
+    private int insertCount;
+    private int selectIndex;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect("columns");
+        dao = ColumnsDaoBuilder.DAO_BUILDER.buildDao(connection);
+        ids = new ArrayList<>();
+        for ( int idx = 0; idx < rowCount; idx++ ){
+            ids.add(dao.insert(newColumns(idx)));
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void rollback() throws SQLException {
+        connection.rollback();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private static Columns newColumns(int idx){
+        Columns columns = new Columns();
+        columns.setStringThing("Benchmark " + idx);
+        columns.setIntegerThing((long) idx);
+        columns.setDecimalThing(new BigDecimal(idx).movePointLeft(2));
+        columns.setBooleanThing(idx % 2 == 0);
+        columns.setTimeStampThing(Instant.ofEpochSecond(1_500_000_000L + idx));
+        columns.setColorThing(COLORS[idx % COLORS.length]);
+        return columns;
+    }
+
+    @Benchmark
+    public long insert() {
+        return dao.insert(newColumns(insertCount++));
+    }
+
+    @Benchmark
+    public Columns selectById() {
+        selectIndex = (selectIndex + 1) % ids.size();
+        return dao.select(ids.get(selectIndex));
+    }
+
+    @Benchmark
+    public List<Columns> selectAll() {
+        return dao.selectAll();
+    }
+}
@@ -0,0 +1,78 @@
+package org.hrorm.benchmark;
+
+import org.hrorm.Operator;
+import org.hrorm.SqlBuilder;
+import org.hrorm.Where;
+import org.hrorm.examples.Columns;
+import org.hrorm.examples.ColumnsDaoBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.hrorm.Where.where;
+
+/**
+ * Measures building SQL text and rendering and binding <code>Where</code>
+ * clauses, none of which touch the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlGenerationBenchmark {
+
+    private Connection connection;
+    private SqlBuilder<Columns> sqlBuilder;
+    private Where where;
+    private PreparedStatement preparedStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect("columns");
+        sqlBuilder = new SqlBuilder<>(ColumnsDaoBuilder.DAO_BUILDER);
+        where = where("string_column", Operator.LIKE, "%foo%")
+                .and("integer_column", Operator.GREATER_THAN, 10L)
+                .and(where("decimal_column", Operator.LESS_THAN, new BigDecimal("3.5"))
+                        .or("boolean_column", Operator.EQUALS, true))
+                .and(Where.inLong("id", Arrays.asList(1L, 2L, 3L, 4L, 5L)));
+        preparedStatement = connection.prepareStatement(sqlBuilder.select(where));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        preparedStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public SqlBuilder<Columns> buildSql() {
+        return new SqlBuilder<>(ColumnsDaoBuilder.DAO_BUILDER);
+    }
+
+    @Benchmark
+    public String selectWithWhere() {
+        return sqlBuilder.select(where);
+    }
+
+    @Benchmark
+    public String renderWhere() {
+        return where.render();
+    }
+
+    @Benchmark
+    public PreparedStatement bindWhere() throws SQLException {
+        where.populate(preparedStatement);
+        return preparedStatement;
+    }
+}
@@ -0,0 +1,77 @@
+package org.hrorm;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One row of the results of an {@link Aggregation}: the values of the
+ * grouped columns, and the values computed by each function, in the order
+ * the functions were added.
+ */
+public class AggregateRow {
+
+    private final List<String> groupByColumnNames;
+    private final List<Object> groupValues;
+    private final List<BigDecimal> functionValues;
+
+    AggregateRow(List<String> groupByColumnNames, List<Object> groupValues, List<BigDecimal> functionValues){
+        this.groupByColumnNames = groupByColumnNames;
+        this.groupValues = Collections.unmodifiableList(groupValues);
+        this.functionValues = Collections.unmodifiableList(functionValues);
+    }
+
+    /**
+     * The values of the grouped columns, as returned by the JDBC driver,
+     * in the order the columns were named.
+     *
+     * @return the group values
+     */
+    public List<Object> getGroupValues() {
+        return groupValues;
+    }
+
+    /**
+     * The value of one of the grouped columns, as returned by the JDBC driver.
+     *
+     * @param columnName The name of the grouped column
+     * @return the value
+     */
+    public Object getGroupValue(String columnName){
+        for(int idx=0; idx<groupByColumnNames.size(); idx++){
+            if ( groupByColumnNames.get(idx).equalsIgnoreCase(columnName) ){
+                return groupValues.get(idx);
+            }
+        }
+        throw new HrormException("Not a grouped column: " + columnName);
+    }
+
+    /**
+     * The result of one of the functions.
+     *
+     * @param functionIndex The position of the function, counting from zero
+     * @return the value, or null if the function returned null
+     */
+    public BigDecimal getBigDecimal(int functionIndex){
+        return functionValues.get(functionIndex);
+    }
+
+    /**
+     * The result of one of the functions, with any fractional part discarded.
+     *
+     * @param functionIndex The position of the function, counting from zero
+     * @return the value, or null if the function returned null
+     */
+    public Long getLong(int functionIndex){
+        BigDecimal value = functionValues.get(functionIndex);
+        return value == null ? null : value.longValue();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateRow{" +
+                "groupValues=" + groupValues +
+                ", functionValues=" + functionValues +
+                '}';
+    }
+}
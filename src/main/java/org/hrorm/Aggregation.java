@@ -0,0 +1,91 @@
+package org.hrorm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes several aggregate functions to compute in a single select,
+ * optionally grouped by the values of some columns.
+ *
+ * <p>
+ *     For example, to find the number of people and their average weight
+ *     for each combination of hair color and graduation status:
+ * </p>
+ *
+ * <pre>
+ *     Aggregation aggregation = Aggregation.groupBy("HAIR_COLOR", "IS_HIGH_SCHOOL_GRADUATE")
+ *                                          .function(SqlFunction.COUNT, "ID")
+ *                                          .function(SqlFunction.AVG, "WEIGHT");
+ * </pre>
+ *
+ * <p>
+ *     Instances are immutable: each call to <code>function()</code>
+ *     returns a new instance.
+ * </p>
+ */
+public class Aggregation {
+
+    private final List<String> groupByColumnNames;
+    private final List<SqlFunction> functions;
+    private final List<String> functionColumnNames;
+
+    private Aggregation(List<String> groupByColumnNames, List<SqlFunction> functions, List<String> functionColumnNames){
+        this.groupByColumnNames = groupByColumnNames;
+        this.functions = functions;
+        this.functionColumnNames = functionColumnNames;
+    }
+
+    /**
+     * Start an aggregation over all the selected records, with no grouping.
+     *
+     * @return the new object
+     */
+    public static Aggregation all(){
+        return new Aggregation(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Start an aggregation that computes its functions once for each
+     * distinct combination of values of the passed columns.
+     *
+     * @param columnNames The columns to group by
+     * @return the new object
+     */
+    public static Aggregation groupBy(String... columnNames){
+        if ( columnNames.length == 0 ){
+            throw new HrormException("Must provide at least one column to group by");
+        }
+        return new Aggregation(Collections.unmodifiableList(Arrays.asList(columnNames)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Add a function to compute.
+     *
+     * @param function The function to run
+     * @param columnName The column to apply the function to
+     * @return a new object with the function added
+     */
+    public Aggregation function(SqlFunction function, String columnName){
+        List<SqlFunction> newFunctions = new ArrayList<>(functions);
+        newFunctions.add(function);
+        List<String> newColumnNames = new ArrayList<>(functionColumnNames);
+        newColumnNames.add(columnName);
+        return new Aggregation(groupByColumnNames,
+                Collections.unmodifiableList(newFunctions), Collections.unmodifiableList(newColumnNames));
+    }
+
+    List<String> getGroupByColumnNames() {
+        return groupByColumnNames;
+    }
+
+    List<SqlFunction> getFunctions() {
+        return functions;
+    }
+
+    List<String> getFunctionColumnNames() {
+        return functionColumnNames;
+    }
+}
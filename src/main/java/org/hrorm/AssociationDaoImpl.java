@@ -66,7 +66,6 @@ public class AssociationDaoImpl<LEFT, LEFTBUILDER, RIGHT, RIGHTBUILDER> implemen
         Long leftId = leftPrimaryKey.getKey(left);
         Where where = new Where(leftColumnName, Operator.EQUALS, leftId)
                             .and(rightColumnName, Operator.EQUALS, rightId);
-        List<Association<LEFT, RIGHT>> associations = internalDao.select(where);
-        associations.forEach(internalDao::delete);
+        internalDao.deleteWhere(where);
     }
 }
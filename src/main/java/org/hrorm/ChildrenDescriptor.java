@@ -1,10 +1,12 @@
 package org.hrorm;
 
-import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -19,6 +21,12 @@ import java.util.function.Supplier;
  */
 public class ChildrenDescriptor<PARENT,CHILD,PARENTBUILDER,CHILDBUILDER> {
 
+    /**
+     * The largest number of parent records whose children are read
+     * with a single select.
+     */
+    public static final int BATCH_SIZE = 500;
+
     private final Function<PARENT, List<CHILD>> getter;
     private final BiConsumer<PARENTBUILDER, List<CHILD>> setter;
     private final DaoDescriptor<CHILD,CHILDBUILDER> childDaoDescriptor;
@@ -26,7 +34,7 @@ public class ChildrenDescriptor<PARENT,CHILD,PARENTBUILDER,CHILDBUILDER> {
 
     private final Function<PARENTBUILDER, PARENT> parentBuildFunction;
 
-    private final SqlBuilder<CHILD> sqlBuilder;
+    private SqlBuilder<CHILD> sqlBuilder;
 
     private final PrimaryKey<PARENT, PARENTBUILDER> parentPrimaryKey;
 
@@ -38,7 +46,6 @@ public class ChildrenDescriptor<PARENT,CHILD,PARENTBUILDER,CHILDBUILDER> {
         this.getter = getter;
         this.setter = setter;
         this.childDaoDescriptor = childDaoDescriptor;
-        this.sqlBuilder = new SqlBuilder<>(childDaoDescriptor);
         this.parentBuildFunction = parentBuildFunction;
 
         ParentColumn<CHILD, PARENT, CHILDBUILDER, PARENTBUILDER> parentColumn = childDaoDescriptor.parentColumn();
@@ -47,93 +54,203 @@ public class ChildrenDescriptor<PARENT,CHILD,PARENTBUILDER,CHILDBUILDER> {
         this.parentPrimaryKey = parentPrimaryKey;
     }
 
-    public void populateChildren(Connection connection, PARENTBUILDER parentBuilder){
-
-        PARENT parent = parentBuildFunction.apply(parentBuilder);
-        long parentId = parentPrimaryKey.getKey(parent);
+    public void populateChildren(StatementCache statementCache, PARENTBUILDER parentBuilder){
+        populateChildren(statementCache, Collections.singletonList(parentBuilder));
+    }
 
-        Where where = new Where(parentChildColumnName(), Operator.EQUALS, parentId);
+    /**
+     * Reads the children of all the passed parents and sets them onto
+     * the parents. Children are selected for many parents at once, in batches of
+     * at most {@link #BATCH_SIZE} parents, and grandchildren are read the same way,
+     * so the number of queries run depends on the depth of the
+     * hierarchy rather than on the number of parents.
+     *
+     * @param statementCache The source of statements to use
+     * @param parentBuilders The parents whose children should be populated
+     */
+    public void populateChildren(StatementCache statementCache, List<PARENTBUILDER> parentBuilders){
+        if( parentBuilders.isEmpty() ){
+            return;
+        }
 
-        String sql = sqlBuilder.select(where);
-        SqlRunner<CHILD,CHILDBUILDER> sqlRunner = new SqlRunner<>(connection, childDaoDescriptor);
-        List<ChildrenDescriptor<CHILD,?,CHILDBUILDER, ?>> childrenDescriptorsList = childDaoDescriptor.childrenDescriptors();
+        List<PARENT> parents = new ArrayList<>();
+        Set<Long> parentIds = new LinkedHashSet<>();
+        for( PARENTBUILDER parentBuilder : parentBuilders ){
+            PARENT parent = parentBuildFunction.apply(parentBuilder);
+            parents.add(parent);
+            parentIds.add(parentPrimaryKey.getKey(parent));
+        }
 
-        Supplier<CHILDBUILDER> supplier = childDaoDescriptor.supplier();
+        Map<Long, List<CHILDBUILDER>> childrenBuildersByParentId = selectChildrenBuilders(statementCache, new ArrayList<>(parentIds));
 
-        List<CHILDBUILDER> childrenBuilders = sqlRunner.selectWhere(
-                sql,
-                supplier,
-                childrenDescriptorsList,
-                where);
+        List<CHILDBUILDER> allChildrenBuilders = new ArrayList<>();
+        childrenBuildersByParentId.values().forEach(allChildrenBuilders::addAll);
+        for( ChildrenDescriptor<CHILD,?,CHILDBUILDER,?> grandChildDescriptor : grandChildrenDescriptors() ){
+            grandChildDescriptor.populateChildren(statementCache, allChildrenBuilders);
+        }
 
-        List<CHILD> children = new ArrayList<>();
-        for( CHILDBUILDER childrenBuilder : childrenBuilders ){
-            for( ChildrenDescriptor<CHILD,?,CHILDBUILDER,?> grandChildDescriptor : grandChildrenDescriptors() ){
-                grandChildDescriptor.populateChildren(connection, childrenBuilder);
+        for( int idx=0; idx<parentBuilders.size(); idx++ ){
+            PARENT parent = parents.get(idx);
+            List<CHILDBUILDER> childrenBuilders = childrenBuildersByParentId.getOrDefault(
+                    parentPrimaryKey.getKey(parent), Collections.emptyList());
+            List<CHILD> children = new ArrayList<>();
+            for( CHILDBUILDER childrenBuilder : childrenBuilders ){
+                parentSetter.accept(childrenBuilder, parent);
+                CHILD c = childBuilder().apply(childrenBuilder);
+                children.add(c);
             }
-            parentSetter.accept(childrenBuilder, parent);
-            CHILD c = childBuilder().apply(childrenBuilder);
-            children.add(c);
+            setter.accept(parentBuilders.get(idx), children);
         }
-
-        setter.accept(parentBuilder, children);
     }
 
-    public void saveChildren(Connection connection, Envelope<PARENT> envelope) {
+    private Map<Long, List<CHILDBUILDER>> selectChildrenBuilders(StatementCache statementCache, List<Long> parentIds){
+        SqlRunner<CHILD,CHILDBUILDER> sqlRunner = new SqlRunner<>(statementCache, childDaoDescriptor);
+        Supplier<CHILDBUILDER> supplier = childDaoDescriptor.supplier();
+        ParentColumn<CHILD,?,CHILDBUILDER,?> parentColumn = childDaoDescriptor.parentColumn();
+        SelectPositions positions = sqlBuilder().selectPositions();
+        int parentIdIndex = positions.get(parentColumn);
+
+        Map<Long, List<CHILDBUILDER>> childrenBuilders = new HashMap<>();
+        for( int start=0; start<parentIds.size(); start+=BATCH_SIZE ){
+            List<Long> batch = parentIds.subList(start, Math.min(start + BATCH_SIZE, parentIds.size()));
+            Where where = Where.inLong(parentChildColumnName(), batch);
+            String sql = sqlBuilder().select(where);
+            childrenBuilders.putAll(sqlRunner.selectByParentIds(sql, positions, supplier, where, parentIdIndex));
+        }
+        return childrenBuilders;
+    }
 
-        PrimaryKey<CHILD, CHILDBUILDER> childPrimaryKey = childDaoDescriptor.primaryKey();
+    public void saveChildren(StatementCache statementCache, Envelope<PARENT> envelope) {
+        saveChildren(statementCache, Collections.singletonList(envelope));
+    }
 
-        PARENT item = envelope.getItem();
+    /**
+     * Saves the children of all the passed parents. New children are
+     * inserted, existing children are updated, and children that are no
+     * longer present are deleted. Inserts and updates are sent to the
+     * database in batches, and grandchildren are saved the same way.
+     *
+     * @param statementCache The source of statements to use
+     * @param envelopes The parents, with their ids, whose children should be saved
+     */
+    public void saveChildren(StatementCache statementCache, List<Envelope<PARENT>> envelopes) {
+        if( envelopes.isEmpty() ){
+            return;
+        }
 
-        SqlRunner<CHILD,CHILDBUILDER> sqlRunner = new SqlRunner<>(connection, childDaoDescriptor);
+        PrimaryKey<CHILD, CHILDBUILDER> childPrimaryKey = childDaoDescriptor.primaryKey();
 
-        List<CHILD> children = getter.apply(item);
+        SqlRunner<CHILD,CHILDBUILDER> sqlRunner = new SqlRunner<>(statementCache, childDaoDescriptor);
+        int batchSize = childDaoDescriptor.statementOptions().getBatchSize();
 
-        if( children == null ){
-            children = Collections.emptyList();
+        List<Long> parentIds = new ArrayList<>();
+        for(Envelope<PARENT> envelope : envelopes){
+            parentIds.add(envelope.getId());
         }
-        Long parentId = envelope.getId();
+        Set<Long> existingIds = findExistingChildrenIds(statementCache, parentIds);
 
-        Set<Long> existingIds = findExistingChildrenIds(connection, parentId);
+        List<Envelope<CHILD>> inserts = new ArrayList<>();
+        List<Envelope<CHILD>> updates = new ArrayList<>();
 
-        for(CHILD child : children){
-            Long childId = childPrimaryKey.getKey(child);
-            if( childId == null ) {
-                childId = DaoHelper.getNextSequenceValue(connection, childPrimaryKey.getSequenceName());
-                childPrimaryKey.optimisticSetKey(child, childId);
-                String sql = sqlBuilder.insert();
-                Envelope<CHILD> childEnvelope = new Envelope<>(child, childId, parentId);
-                sqlRunner.insert(sql, childEnvelope);
-            } else {
-                existingIds.remove(childId);
-                String sql = sqlBuilder.update();
-                Envelope<CHILD> childEnvelope = new Envelope<>(child, childId, parentId);
-                sqlRunner.update(sql, childEnvelope);
+        for(Envelope<PARENT> envelope : envelopes){
+            List<CHILD> children = getter.apply(envelope.getItem());
+            if( children == null ){
+                continue;
             }
-            for(ChildrenDescriptor<CHILD,?,?,?> grandchildrenDescriptor : grandChildrenDescriptors()){
-                grandchildrenDescriptor.saveChildren(connection, new Envelope<>(child, childId));
+            Long parentId = envelope.getId();
+            for(CHILD child : children){
+                Long childId = childPrimaryKey.getKey(child);
+                if( childId == null ) {
+                    childId = childPrimaryKey.nextKey(statementCache.getConnection());
+                    childPrimaryKey.optimisticSetKey(child, childId);
+                    inserts.add(new Envelope<>(child, childId, parentId));
+                } else {
+                    existingIds.remove(childId);
+                    updates.add(new Envelope<>(child, childId, parentId));
+                }
             }
         }
-        deleteOrphans(connection, existingIds);
 
+        sqlRunner.insertAll(sqlBuilder().insert(), inserts, batchSize);
+        sqlRunner.updateAll(sqlBuilder().update(), updates, batchSize);
+
+        List<Envelope<CHILD>> savedChildren = new ArrayList<>(inserts);
+        savedChildren.addAll(updates);
+        for(ChildrenDescriptor<CHILD,?,?,?> grandchildrenDescriptor : grandChildrenDescriptors()){
+            grandchildrenDescriptor.saveChildren(statementCache, savedChildren);
+        }
+
+        deleteOrphans(statementCache, existingIds);
     }
 
-    public Set<Long> findExistingChildrenIds(Connection connection, Long parentId){
-        String sql = sqlBuilder.selectChildIds(parentChildColumnName());
-        List<Long> ids = DaoHelper.readLongs(connection, sql, parentId);
+    public Set<Long> findExistingChildrenIds(StatementCache statementCache, Long parentId){
+        String sql = sqlBuilder().selectChildIds(parentChildColumnName());
+        List<Long> ids = DaoHelper.readLongs(statementCache, sql, parentId);
         return new HashSet<>(ids);
     }
 
-    private void deleteOrphans(Connection connection, Set<Long> badChildrenIds) {
-        String preparedSql = sqlBuilder.delete();
+    private Set<Long> findExistingChildrenIds(StatementCache statementCache, List<Long> parentIds){
+        Set<Long> ids = new HashSet<>();
+        for( int start=0; start<parentIds.size(); start+=BATCH_SIZE ){
+            List<Long> batch = parentIds.subList(start, Math.min(start + BATCH_SIZE, parentIds.size()));
+            String sql = sqlBuilder().selectChildIds(parentChildColumnName(), batch.size());
+            ids.addAll(DaoHelper.readLongs(statementCache, sql, batch));
+        }
+        return ids;
+    }
+
+    /**
+     * Deletes the passed children, and all their descendants, a batch of
+     * ids at a time. Descendants are deleted first, level by level, so the
+     * number of statements run depends on the depth of the hierarchy
+     * rather than on the number of children deleted.
+     */
+    private void deleteOrphans(StatementCache statementCache, Set<Long> orphanIds) {
+        List<Long> ids = new ArrayList<>(orphanIds);
+        for( ChildrenDescriptor<CHILD,?,?,?> grandChildDescriptor : grandChildrenDescriptors() ){
+            grandChildDescriptor.deleteChildren(statementCache, ids);
+        }
+        for( int start=0; start<ids.size(); start+=BATCH_SIZE ){
+            List<Long> batch = ids.subList(start, Math.min(start + BATCH_SIZE, ids.size()));
+            String sql = sqlBuilder().deleteByIds(batch.size());
+            DaoHelper.runPreparedDelete(statementCache, sql, batch);
+        }
+    }
 
-        for(Long badId : badChildrenIds) {
-            for( ChildrenDescriptor<CHILD,?,?,?> grandChildDescriptor : grandChildrenDescriptors()){
-                Set<Long> badGranchildIds = grandChildDescriptor.findExistingChildrenIds(connection, badId);
-                grandChildDescriptor.deleteOrphans(connection, badGranchildIds);
+    /**
+     * Deletes all the children, and all their descendants, of the passed
+     * parents. Descendants are deleted first, a batch of parent ids at a time.
+     *
+     * @param statementCache The source of statements to use
+     * @param parentIds The ids of the parents whose children should be deleted
+     */
+    public void deleteChildren(StatementCache statementCache, List<Long> parentIds) {
+        if( parentIds.isEmpty() ){
+            return;
+        }
+        if( ! grandChildrenDescriptors().isEmpty() ){
+            List<Long> childIds = new ArrayList<>(findExistingChildrenIds(statementCache, parentIds));
+            for( ChildrenDescriptor<CHILD,?,?,?> grandChildDescriptor : grandChildrenDescriptors() ){
+                grandChildDescriptor.deleteChildren(statementCache, childIds);
             }
-            DaoHelper.runPreparedDelete(connection, preparedSql, badId);
         }
+        for( int start=0; start<parentIds.size(); start+=BATCH_SIZE ){
+            List<Long> batch = parentIds.subList(start, Math.min(start + BATCH_SIZE, parentIds.size()));
+            String sql = sqlBuilder().deleteByParentIds(parentChildColumnName(), batch.size());
+            DaoHelper.runPreparedDelete(statementCache, sql, batch);
+        }
+    }
+
+    /**
+     * The SQL for the children is generated the first time it is needed,
+     * rather than when this is constructed, since the definition of the
+     * child entity may still be being built up at that point.
+     */
+    private SqlBuilder<CHILD> sqlBuilder(){
+        if( sqlBuilder == null ){
+            sqlBuilder = new SqlBuilder<>(childDaoDescriptor);
+        }
+        return sqlBuilder;
     }
 
     public String parentChildColumnName(){
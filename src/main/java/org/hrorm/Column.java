@@ -84,6 +84,22 @@ public interface Column<ENTITY, BUILDER> {
      */
     PopulateResult populate(BUILDER constructor, ResultSet resultSet) throws SQLException;
 
+    /**
+     * Populates the object with the data read from the database, reading
+     * values by their positions in the select list where they are known, and
+     * reusing any joined entities already built by the same select.
+     *
+     * @param constructor The object being populated
+     * @param resultSet The result said being read
+     * @param positions The positions of the columns in the select list
+     * @param joinedEntities The joined entities already built by this select
+     * @return A coded value indicating information about what happened
+     * during population
+     * @throws SQLException allowed for <code>ResultSet</code> operations
+     */
+    default PopulateResult populate(BUILDER constructor, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        return populate(constructor, resultSet);
+    }
 
     /**
      * Make a new instance of the column, identical to this instance, except with a
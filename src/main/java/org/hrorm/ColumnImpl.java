@@ -26,6 +26,7 @@ public class ColumnImpl<TYPE, ENTITY, BUILDER> implements Column<ENTITY,BUILDER>
     private final String prefix;
     private final Function<ENTITY, TYPE> getter;
     private final BiConsumer<BUILDER, TYPE> setter;
+    private final String label;
 
     private String sqlTypeName;
     private boolean nullable;
@@ -41,6 +42,7 @@ public class ColumnImpl<TYPE, ENTITY, BUILDER> implements Column<ENTITY,BUILDER>
 
         this.prefix = prefix;
         this.name = name;
+        this.label = prefix + name;
         this.setter = setter;
         this.getter = getter;
         this.sqlTypeName = sqlTypeName;
@@ -59,6 +61,7 @@ public class ColumnImpl<TYPE, ENTITY, BUILDER> implements Column<ENTITY,BUILDER>
 
         this.prefix = prefix;
         this.name = name;
+        this.label = prefix + name;
         this.setter = convertedSetter(converter, setter);
         this.getter = convertedGetter(converter, getter);
         this.sqlTypeName = sqlTypeName;
@@ -99,7 +102,12 @@ public class ColumnImpl<TYPE, ENTITY, BUILDER> implements Column<ENTITY,BUILDER>
 
     @Override
     public PopulateResult populate(BUILDER builder, ResultSet resultSet) throws SQLException {
-        TYPE value = genericColumn.fromResultSet(resultSet, prefix  + name);
+        return populate(builder, resultSet, SelectPositions.none(), JoinedEntities.unshared());
+    }
+
+    @Override
+    public PopulateResult populate(BUILDER builder, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        TYPE value = genericColumn.fromResultSet(resultSet, positions.get(this), label);
         setter.accept(builder, value);
         return PopulateResult.Ignore;
     }
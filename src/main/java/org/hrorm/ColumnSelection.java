@@ -47,6 +47,10 @@ public class ColumnSelection<ENTITY, BUILDER> {
         return columns.get(columnName);
     }
 
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
     public StatementPopulator buildPopulator(ENTITY entity) {
         return preparedStatement -> {
             int index = 1;
@@ -58,6 +62,12 @@ public class ColumnSelection<ENTITY, BUILDER> {
         };
     }
 
+    public String setClause(){
+        return columnNames.stream()
+                .map(columnName -> columnName + " = ?")
+                .collect(Collectors.joining(", "));
+    }
+
     public String whereClause(){
         StringBuilder buf = new StringBuilder();
 
@@ -0,0 +1,27 @@
+package org.hrorm;
+
+/**
+ * Marks the position in an ordered select after which the next
+ * {@link Page} begins.
+ *
+ * <p>
+ *     A cursor holds the last entity of the page that produced it, and the
+ *     next page is selected by comparing the ordered columns (and the primary
+ *     key) against that entity's values. Changing the entity changes where
+ *     the next page begins.
+ * </p>
+ *
+ * @param <ENTITY> The type of the entities being paged through.
+ */
+public class Cursor<ENTITY> {
+
+    private final ENTITY last;
+
+    Cursor(ENTITY last){
+        this.last = last;
+    }
+
+    ENTITY getLast() {
+        return last;
+    }
+}
@@ -1,5 +1,6 @@
 package org.hrorm;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +20,18 @@ public interface Dao<ENTITY> extends KeylessDao<ENTITY> {
      */
     void update(ENTITY item);
 
+    /**
+     * Run an update statement that changes only the named columns of an
+     * existing record. Updates are applied by primary key. Other columns
+     * are not written, and children are neither saved nor deleted.
+     *
+     * @param item An instance of the class with a populated primary key field
+     *             and updated field values.
+     * @param columnNames The names of the columns to update. These cannot
+     *                    include the primary key or a parent column.
+     */
+    void updateColumns(ENTITY item, String... columnNames);
+
     /**
      * Run a delete statement in the database. Deletion is done by primary key.
      *
@@ -26,6 +39,41 @@ public interface Dao<ENTITY> extends KeylessDao<ENTITY> {
      */
     void delete(ENTITY item);
 
+    /**
+     * Delete every record that matches the where predicates, along with
+     * all of their children and grandchildren. The ids of the matching
+     * records are read first, then each generation of descendants is
+     * deleted with a few set based statements, starting with the deepest,
+     * and finally the records themselves are deleted with a single statement.
+     *
+     * <p>This cannot be called on a <code>Dao</code> created by
+     * {@link #withoutChildren()}, which knows nothing of the children.</p>
+     *
+     * @param where The predicates that select the records to delete
+     * @return The number of records deleted, not counting their descendants
+     */
+    long deleteWhereWithChildren(Where where);
+
+    /**
+     * Run an update statement for each of the passed records, reusing a
+     * single statement and sending the updates to the database in batches.
+     * Updates are applied by primary key, and children are saved the same
+     * way as by {@link #update(Object)}.
+     *
+     * @param items Instances of the class with populated primary key fields
+     *              and updated field values.
+     */
+    void updateAll(Collection<ENTITY> items);
+
+    /**
+     * Run a delete statement for each of the passed records, reusing a
+     * single statement and sending the deletes to the database in batches.
+     * Deletion is done by primary key.
+     *
+     * @param items Instances of type ENTITY with populated primary keys.
+     */
+    void deleteAll(Collection<ENTITY> items);
+
     /**
      * Read a record from the database by its primary key.
      *
@@ -42,6 +90,47 @@ public interface Dao<ENTITY> extends KeylessDao<ENTITY> {
      */
     List<ENTITY> selectMany(List<Long> ids);
 
+    /**
+     * Read one page of the records that match the passed where clause, in
+     * the passed order. The primary key is added to the order, if it is not
+     * already there, so that every record has a distinct position.
+     *
+     * <p>
+     *     Each page after the first begins where the previous one ended, by
+     *     comparing the ordered columns with the last record of that page
+     *     rather than by skipping rows, so reading a late page costs no more
+     *     than reading the first. A null would match no comparison, so
+     *     every ordered column must be declared not null, or an exception
+     *     is thrown.
+     * </p>
+     *
+     * @param where The predicates that records must match.
+     * @param order The order of the records.
+     * @param limit The largest number of records on the page.
+     * @param after The cursor of the previous page, or null for the first page.
+     * @return The page of populated instances of type ENTITY.
+     */
+    Page<ENTITY> selectPage(Where where, Order order, int limit, Cursor<ENTITY> after);
+
+    /**
+     * Split the records matching a where clause into ranges of primary
+     * key values. Each returned <code>Where</code> matches the records of the
+     * original clause whose keys fall in one range, and together they match
+     * all of them exactly once.
+     *
+     * <p>
+     *     The ranges are of equal width, not of equal numbers of records.
+     *     Hrorm runs nothing in parallel itself, but the partitions can be
+     *     passed to <code>foldingSelect</code> on separate <code>Dao</code>s,
+     *     each with its own <code>Connection</code>, and the results combined.
+     * </p>
+     *
+     * @param where The predicates that records must match.
+     * @param partitionCount The largest number of partitions to create.
+     * @return The partitions, in order of primary key.
+     */
+    List<Where> partitionByPrimaryKey(Where where, int partitionCount);
+
 
     /**
      * Run an update statement to change the values in the database associated
@@ -77,4 +166,49 @@ public interface Dao<ENTITY> extends KeylessDao<ENTITY> {
      * @return An object containing the literal <code>SQL</code>.
      */
     Queries queries();
+
+    /**
+     * Create a <code>Dao</code> that works exactly like this one, using
+     * the same <code>Connection</code>, but with different statement options.
+     *
+     * @param statementOptions The options to use
+     * @return A new <code>Dao</code> using the passed options
+     */
+    @Override
+    Dao<ENTITY> withStatementOptions(StatementOptions statementOptions);
+
+    /**
+     * Create a <code>Dao</code> that works like this one, but whose selects
+     * join and read only the tables along the passed join paths. Entities
+     * joined through join columns that are not fetched are read as references
+     * holding only their primary key.
+     *
+     * @param joinPaths The join paths to fetch
+     * @return A new <code>Dao</code> using the passed join paths
+     * @see KeylessDao#withFetchedJoins(String...)
+     */
+    @Override
+    Dao<ENTITY> withFetchedJoins(String... joinPaths);
+
+    /**
+     * Create a <code>Dao</code> that works like this one, using the same
+     * <code>Connection</code> and statement options, but that neither reads
+     * nor writes the children of <code>ENTITY</code>. Selecting through it
+     * issues no queries against the child tables, which is useful when only
+     * the fields of the parent objects are needed, e.g.
+     *
+     * <pre>
+     *     List&lt;Recipe&gt; recipes = recipeDao.withoutChildren().selectAll();
+     * </pre>
+     *
+     * <p>The child lists of the returned entities are left unset. Inserts and
+     * updates made through the returned <code>Dao</code> leave existing
+     * child records alone, so updating an entity read this way will not
+     * remove its children. Saving such an entity through a <code>Dao</code>
+     * that does manage children will, as it does for any entity whose child
+     * list is empty.</p>
+     *
+     * @return A new <code>Dao</code> that ignores children
+     */
+    Dao<ENTITY> withoutChildren();
 }
@@ -23,6 +23,8 @@ public class DaoBuilderHelper<ENTITY,BUILDER> {
     private final Function<BUILDER, ENTITY> buildFunction;
     private final Supplier<BUILDER> supplier;
 
+    private StatementOptions statementOptions = StatementOptions.DEFAULT;
+
     public DaoBuilderHelper(String tableName, Supplier<BUILDER> supplier, Function<BUILDER,ENTITY> buildFunction){
         this.prefixer = new Prefixer();
         this.prefix = prefixer.nextPrefix();
@@ -51,4 +53,12 @@ public class DaoBuilderHelper<ENTITY,BUILDER> {
         return prefixer;
     }
 
+    public StatementOptions getStatementOptions() {
+        return statementOptions;
+    }
+
+    public void setStatementOptions(StatementOptions statementOptions) {
+        this.statementOptions = statementOptions;
+    }
+
 }
@@ -6,6 +6,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -20,13 +22,78 @@ public class DaoHelper {
 
     private static final Logger logger = Logger.getLogger("org.hrorm");
 
-    public static void runPreparedDelete(Connection connection, String sql, Long id){
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql) ){
-            preparedStatement.setLong(1, id);
+    public static void runPreparedDelete(StatementCache statementCache, String sql, Long id){
+        runPreparedDelete(statementCache, sql, Collections.singletonList(id));
+    }
+
+    /**
+     * Run a single delete statement. The passed ids are bound, in order,
+     * to the statement parameters.
+     *
+     * @param statementCache The source of statements to use
+     * @param sql The delete statement
+     * @param ids The values of the statement parameters
+     */
+    public static void runPreparedDelete(StatementCache statementCache, String sql, List<Long> ids){
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = statementCache.prepare(sql);
+            for( int idx=0; idx<ids.size(); idx++ ){
+                preparedStatement.setLong(idx + 1, ids.get(idx));
+            }
             logger.info(sql);
             preparedStatement.execute();
         } catch (SQLException ex){
             throw new HrormException(ex, sql);
+        } finally {
+            release(statementCache, sql, preparedStatement);
+        }
+    }
+
+    /**
+     * Run a delete by id for each of the passed ids, sending them
+     * to the database in batches.
+     *
+     * @param statementCache The source of statements to use
+     * @param sql The delete statement, with a single id parameter
+     * @param ids The ids of the records to delete
+     * @param batchSize The largest number of deletes sent in one batch
+     */
+    public static void runPreparedDeletes(StatementCache statementCache, String sql, Collection<Long> ids, int batchSize){
+        if( ids.isEmpty() ){
+            return;
+        }
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = statementCache.prepare(sql);
+            logger.info(sql);
+            int batchCount = 0;
+            for(Long id : ids){
+                preparedStatement.setLong(1, id);
+                preparedStatement.addBatch();
+                batchCount++;
+                if( batchCount >= batchSize ){
+                    preparedStatement.executeBatch();
+                    batchCount = 0;
+                }
+            }
+            if( batchCount > 0 ){
+                preparedStatement.executeBatch();
+            }
+        } catch (SQLException ex){
+            throw new HrormException(ex, sql);
+        } finally {
+            release(statementCache, sql, preparedStatement);
+        }
+    }
+
+    private static void release(StatementCache statementCache, String sql, PreparedStatement preparedStatement){
+        try {
+            if ( preparedStatement != null ){
+                statementCache.release(sql, preparedStatement);
+            }
+        } catch (SQLException ex){
+            throw new HrormException(ex);
         }
     }
 
@@ -56,15 +123,44 @@ public class DaoHelper {
         }
     }
 
-    public static List<Long> readLongs(Connection connection, String sql, Long id){
+    public static List<Long> readLongs(StatementCache statementCache, String sql, Long id){
+        return readLongs(statementCache, sql, Collections.singletonList(id));
+    }
+
+    /**
+     * Reads a single column of longs. The passed ids are bound, in order,
+     * to the statement parameters.
+     *
+     * @param statementCache The source of statements to use
+     * @param sql A select of one long column
+     * @param ids The values of the statement parameters
+     * @return The values read
+     */
+    public static List<Long> readLongs(StatementCache statementCache, String sql, List<Long> ids){
+        return readLongs(statementCache, sql, statement -> {
+            for( int idx=0; idx<ids.size(); idx++ ){
+                statement.setLong(idx + 1, ids.get(idx));
+            }
+        });
+    }
+
+    /**
+     * Reads a single column of longs.
+     *
+     * @param statementCache The source of statements to use
+     * @param sql A select of one long column
+     * @param statementPopulator Sets every parameter of the statement
+     * @return The values read
+     */
+    public static List<Long> readLongs(StatementCache statementCache, String sql, StatementPopulator statementPopulator){
         PreparedStatement statement = null;
         ResultSet resultSet = null;
 
         try {
             List<Long> longs = new ArrayList<>();
             logger.info(sql);
-            statement = connection.prepareStatement(sql);
-            statement.setLong(1, id);
+            statement = statementCache.prepare(sql);
+            statementPopulator.populate(statement);
             resultSet = statement.executeQuery();
             while (resultSet.next()) {
                 longs.add(resultSet.getLong(1));
@@ -78,7 +174,7 @@ public class DaoHelper {
                     resultSet.close();
                 }
                 if ( statement != null){
-                    statement.close();
+                    statementCache.release(sql, statement);
                 }
             } catch (SQLException ex){
                 throw new HrormException(ex);
@@ -1,8 +1,13 @@
 package org.hrorm;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 
 /**
  * The {@link Dao} implementation.
@@ -19,11 +24,18 @@ import java.util.stream.Collectors;
  */
 public class DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> extends KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements Dao<ENTITY>, DaoDescriptor<ENTITY, BUILDER> {
 
+    /**
+     * The largest number of ids bound in a single select by <code>selectMany</code>.
+     * Longer lists are selected in several chunks.
+     */
+    static final int MAXIMUM_SELECT_IDS = 512;
+
     private final SqlBuilder<ENTITY> sqlBuilder;
 
     private final PrimaryKey<ENTITY, BUILDER> primaryKey;
     private final ParentColumn<ENTITY, PARENT, BUILDER, PARENTBUILDER> parentColumn;
     private final List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors;
+    private final boolean ignoresChildren;
 
     public DaoImpl(Connection connection,
                    DaoDescriptor<ENTITY, BUILDER> daoDescriptor){
@@ -35,6 +47,49 @@ public class DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> extends KeylessDaoI
         this.primaryKey = daoDescriptor.primaryKey();
         this.sqlBuilder = new SqlBuilder<>(daoDescriptor);
         this.parentColumn = daoDescriptor.parentColumn();
+        this.ignoresChildren = false;
+    }
+
+    private DaoImpl(DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                    StatementOptions statementOptions){
+        this(other, statementOptions, other.childrenDescriptors, other.ignoresChildren);
+    }
+
+    private DaoImpl(DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                    StatementOptions statementOptions,
+                    List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
+                    boolean ignoresChildren){
+        super(other, statementOptions, childrenDescriptors);
+        this.childrenDescriptors = childrenDescriptors;
+        this.primaryKey = other.primaryKey;
+        this.sqlBuilder = other.sqlBuilder;
+        this.parentColumn = other.parentColumn;
+        this.ignoresChildren = ignoresChildren;
+    }
+
+    private DaoImpl(DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                    List<String> joinPaths){
+        super(other, other.statementOptions(), other.childrenDescriptors, new KeylessSqlBuilder<>(other, joinPaths));
+        this.childrenDescriptors = other.childrenDescriptors;
+        this.primaryKey = other.primaryKey;
+        this.sqlBuilder = new SqlBuilder<>(other, joinPaths);
+        this.parentColumn = other.parentColumn;
+        this.ignoresChildren = other.ignoresChildren;
+    }
+
+    @Override
+    public Dao<ENTITY> withStatementOptions(StatementOptions statementOptions) {
+        return new DaoImpl<>(this, statementOptions);
+    }
+
+    @Override
+    public Dao<ENTITY> withoutChildren() {
+        return new DaoImpl<>(this, statementOptions(), Collections.emptyList(), true);
+    }
+
+    @Override
+    public Dao<ENTITY> withFetchedJoins(String... joinPaths) {
+        return new DaoImpl<>(this, Arrays.asList(joinPaths));
     }
 
     @Override
@@ -53,70 +108,273 @@ public class DaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> extends KeylessDaoI
     @Override
     public Long insert(ENTITY item) {
         String sql = sqlBuilder.insert();
-        long id = DaoHelper.getNextSequenceValue(connection, primaryKey.getSequenceName());
+        long id = primaryKey.nextKey(connection);
         primaryKey.optimisticSetKey(item, id);
         Envelope<ENTITY> envelope = newEnvelope(item, id);
         sqlRunner.insert(sql, envelope);
         for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
-            childrenDescriptor.saveChildren(connection, new Envelope<>(item, id));
+            childrenDescriptor.saveChildren(statementCache, new Envelope<>(item, id));
         }
         return id;
     }
 
+    @Override
+    public List<Long> insertAll(Collection<ENTITY> items) {
+        String sql = sqlBuilder.insert();
+        List<Envelope<ENTITY>> envelopes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for(ENTITY item : items){
+            long id = primaryKey.nextKey(connection);
+            primaryKey.optimisticSetKey(item, id);
+            envelopes.add(newEnvelope(item, id));
+            ids.add(id);
+        }
+        sqlRunner.insertAll(sql, envelopes, statementOptions().getBatchSize());
+        for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
+            childrenDescriptor.saveChildren(statementCache, envelopes);
+        }
+        return ids;
+    }
+
     @Override
     public void update(ENTITY item) {
         String sql = sqlBuilder.update();
         Envelope<ENTITY> envelope = newEnvelope(item, primaryKey.getKey(item));
         sqlRunner.update(sql, envelope);
         for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
-            childrenDescriptor.saveChildren(connection, new Envelope<>(item, primaryKey.getKey(item)));
+            childrenDescriptor.saveChildren(statementCache, new Envelope<>(item, primaryKey.getKey(item)));
         }
     }
 
+    @Override
+    public void updateColumns(ENTITY item, String... columnNames) {
+        ColumnSelection<ENTITY, BUILDER> columnSelection = updatableColumns("updateColumns", columnNames);
+        String sql = sqlBuilder.updateColumns(columnSelection);
+        StatementPopulator columnPopulator = columnSelection.buildPopulator(item);
+        long id = primaryKey.getKey(item);
+        sqlRunner.update(sql, statement -> {
+            columnPopulator.populate(statement);
+            statement.setLong(columnNames.length + 1, id);
+        });
+    }
+
     @Override
     public void delete(ENTITY item) {
         String sql = sqlBuilder.delete();
-        DaoHelper.runPreparedDelete(connection, sql, primaryKey.getKey(item));
+        DaoHelper.runPreparedDelete(statementCache, sql, primaryKey.getKey(item));
+    }
+
+    @Override
+    public long deleteWhereWithChildren(Where where) {
+        if ( ignoresChildren ){
+            throw new HrormException("Cannot delete children through a Dao that ignores children, use deleteWhere instead");
+        }
+        if ( ! childrenDescriptors.isEmpty() ){
+            List<Long> ids = DaoHelper.readLongs(statementCache, sqlBuilder.selectIds(where), where);
+            for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
+                childrenDescriptor.deleteChildren(statementCache, ids);
+            }
+        }
+        return deleteWhere(where);
+    }
+
+    @Override
+    public void updateAll(Collection<ENTITY> items) {
+        String sql = sqlBuilder.update();
+        List<Envelope<ENTITY>> envelopes = new ArrayList<>();
+        for(ENTITY item : items){
+            envelopes.add(newEnvelope(item, primaryKey.getKey(item)));
+        }
+        sqlRunner.updateAll(sql, envelopes, statementOptions().getBatchSize());
+        for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
+            childrenDescriptor.saveChildren(statementCache, envelopes);
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<ENTITY> items) {
+        String sql = sqlBuilder.delete();
+        List<Long> ids = new ArrayList<>();
+        for(ENTITY item : items){
+            ids.add(primaryKey.getKey(item));
+        }
+        DaoHelper.runPreparedDeletes(statementCache, sql, ids, statementOptions().getBatchSize());
     }
 
     @Override
     public ENTITY select(long id) {
-        String primaryKeyName = primaryKey.getName();
-        ColumnSelection<ENTITY, BUILDER> columnSelection = select(primaryKeyName);
-        String sql = sqlBuilder.selectByColumns(columnSelection);
-        BUILDER builder = supplier().get();
-        primaryKey.setKey(builder, id);
-        ENTITY item = buildFunction().apply(builder);
-        List<BUILDER> items = sqlRunner.selectByColumns(sql, supplier(),
-                select(primaryKeyName),
-                childrenDescriptors, item);
-        return KeylessDaoImpl.fromSingletonList(mapBuilders(items));
+        String sql = sqlBuilder.selectById();
+        List<ENTITY> items = selectEntities(sql, statement -> statement.setLong(1, id));
+        return KeylessDaoImpl.fromSingletonList(items);
     }
 
     @Override
     public List<ENTITY> selectMany(List<Long> ids) {
-        String sql = sqlBuilder.select();
-        List<String> idStrings = ids.stream().map(Object::toString).collect(Collectors.toList());
-        String idsString = String.join(",", idStrings);
-        sql = sql + " and a." + primaryKey.getName() + " in (" + idsString + ")";
-        List<BUILDER> bs = sqlRunner.select(sql, supplier(), childrenDescriptors);
-        return mapBuilders(bs);
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<ENTITY> items = new ArrayList<>();
+        for ( int start = 0; start < distinctIds.size(); start += MAXIMUM_SELECT_IDS ){
+            int end = Math.min(start + MAXIMUM_SELECT_IDS, distinctIds.size());
+            List<Long> chunk = distinctIds.subList(start, end);
+            int bucketSize = selectIdsBucketSize(chunk.size());
+            String sql = sqlBuilder.selectByIds(bucketSize);
+            StatementPopulator populator = statement -> {
+                // pad the chunk by repeating its last id, so only a few distinct statements are ever prepared
+                for ( int idx = 0; idx < bucketSize; idx++ ){
+                    statement.setLong(idx + 1, chunk.get(Math.min(idx, chunk.size() - 1)));
+                }
+            };
+            items.addAll(selectEntities(sql, populator));
+        }
+        return items;
+    }
+
+    /**
+     * The number of ids bound in each select made by <code>selectMany</code>:
+     * the smallest power of two that holds the ids, up to
+     * <code>MAXIMUM_SELECT_IDS</code>.
+     */
+    static int selectIdsBucketSize(int idCount){
+        int bucketSize = 1;
+        while ( bucketSize < idCount ){
+            bucketSize <<= 1;
+        }
+        return Math.min(bucketSize, MAXIMUM_SELECT_IDS);
+    }
+
+    @Override
+    public Page<ENTITY> selectPage(Where where, Order order, int limit, Cursor<ENTITY> after) {
+        if ( limit < 1 ){
+            throw new HrormException("Page limit must be at least one, not " + limit);
+        }
+        Order keyedOrder = withPrimaryKeyOrder(order);
+        List<Column<ENTITY, BUILDER>> orderColumns = orderColumns(keyedOrder);
+        String sql;
+        StatementPopulator populator;
+        if ( after == null ){
+            sql = sqlBuilder.selectFirst(where, keyedOrder);
+            populator = where;
+        } else {
+            sql = sqlBuilder.selectAfter(where, keyedOrder);
+            ENTITY last = after.getLast();
+            populator = statement -> {
+                int index = where.populate(statement, 1);
+                for( int idx=0; idx<orderColumns.size(); idx++ ){
+                    for( int columnIdx=0; columnIdx<=idx; columnIdx++ ){
+                        orderColumns.get(columnIdx).setValue(last, index++, statement);
+                    }
+                }
+            };
+        }
+
+        // one extra row is read to learn whether there is another page,
+        // so children are read only after that row has been dropped
+        SqlRunner<ENTITY, BUILDER> pageRunner = new SqlRunner<>(statementCache, this, statementOptions().withMaxRows(limit + 1));
+        BiFunction<List<BUILDER>, BUILDER, List<BUILDER>> accumulator =
+                (list, builder) -> { list.add(builder); return list; };
+        List<BUILDER> builders = pageRunner.foldingSelect(sql, sqlBuilder.selectPositions(), populator, supplier(), Collections.emptyList(), b -> b, new ArrayList<>(), accumulator);
+        boolean hasNext = builders.size() > limit;
+        if ( hasNext ){
+            builders = builders.subList(0, limit);
+        }
+
+        for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
+            childrenDescriptor.populateChildren(statementCache, builders);
+        }
+        List<ENTITY> items = new ArrayList<>();
+        for(BUILDER builder : builders){
+            items.add(buildFunction().apply(builder));
+        }
+
+        if ( hasNext ){
+            return new Page<>(items, new Cursor<>(items.get(limit - 1)));
+        }
+        return new Page<>(items, null);
+    }
+
+    @Override
+    public List<Where> partitionByPrimaryKey(Where where, int partitionCount) {
+        if ( partitionCount < 1 ){
+            throw new HrormException("Partition count must be at least one, not " + partitionCount);
+        }
+        String keyName = primaryKey.getName();
+        Long min = runLongFunction(SqlFunction.MIN, keyName, where);
+        Long max = runLongFunction(SqlFunction.MAX, keyName, where);
+        if ( min == null || max == null ){
+            return new ArrayList<>();
+        }
+        boolean hasPredicates = where.render().length() > 0;
+
+        // the distance between two keys can exceed Long.MAX_VALUE, so it is
+        // held as an unsigned value, and no key past max is ever computed
+        long lastOffset = Long.divideUnsigned(max - min, partitionCount);
+        List<Where> partitions = new ArrayList<>();
+        long start = min;
+        while ( true ){
+            boolean isLast = Long.compareUnsigned(max - start, lastOffset) <= 0;
+            long end = isLast ? max : start + lastOffset;
+            Where partition = new Where(keyName, Operator.GREATER_THAN_OR_EQUALS, start)
+                    .and(keyName, Operator.LESS_THAN_OR_EQUALS, end);
+            if ( hasPredicates ){
+                partition.and(where);
+            }
+            partitions.add(partition);
+            if ( isLast ){
+                return partitions;
+            }
+            start = end + 1;
+        }
+    }
+
+    private Order withPrimaryKeyOrder(Order order){
+        List<String> columnNames = new ArrayList<>(order.getColumnNames());
+        boolean hasPrimaryKey = columnNames.stream().anyMatch(name -> name.equalsIgnoreCase(primaryKey.getName()));
+        if ( hasPrimaryKey ){
+            return order;
+        }
+        columnNames.add(primaryKey.getName());
+        String[] names = columnNames.toArray(new String[0]);
+        return order.isAscending() ? Order.ascending(names) : Order.descending(names);
+    }
+
+    private List<Column<ENTITY, BUILDER>> orderColumns(Order order){
+        String[] names = order.getColumnNames().toArray(new String[0]);
+        ColumnSelection<ENTITY, BUILDER> columnSelection = select(names);
+        List<Column<ENTITY, BUILDER>> columns = new ArrayList<>();
+        for( String name : names ){
+            Column<ENTITY, BUILDER> column = columnSelection.get(name.toUpperCase());
+            if ( column == null ){
+                throw new HrormException("Unrecognized column " + name + " in " + tableName());
+            }
+            if ( column.isNullable() ){
+                throw new HrormException("Cannot page by nullable column " + name + " in " + tableName());
+            }
+            columns.add(column);
+        }
+        return columns;
     }
 
     @Override
     public void atomicUpdate(ENTITY item) {
         Transactor transactor = new Transactor(connection);
-        transactor.runAndCommit(
-                con -> { update(item); }
-        );
+        try {
+            transactor.runAndCommit(
+                    con -> { update(item); }
+            );
+        } finally {
+            statementCache.close();
+        }
     }
 
     @Override
     public void atomicDelete(ENTITY item) {
         Transactor transactor = new Transactor(connection);
-        transactor.runAndCommit(
-                con -> { delete(item); }
-        );
+        try {
+            transactor.runAndCommit(
+                    con -> { delete(item); }
+            );
+        } finally {
+            statementCache.close();
+        }
     }
 
     @Override
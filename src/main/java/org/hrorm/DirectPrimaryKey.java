@@ -1,5 +1,6 @@
 package org.hrorm;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -21,9 +22,11 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
 
     private final String prefix;
     private final String name;
+    private final String label;
     private final String sequenceName;
     private final BiConsumer<ENTITY, Long> setter;
     private final Function<ENTITY, Long> getter;
+    private SequenceAllocator sequenceAllocator;
 
     private String sqlTypeName = "integer";
 
@@ -32,11 +35,22 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
                             String sequenceName,
                             Function<ENTITY, Long> getter,
                             BiConsumer<ENTITY, Long> setter) {
+        this(prefix, name, sequenceName, getter, setter, new SequenceAllocator(sequenceName, 1));
+    }
+
+    private DirectPrimaryKey(String prefix,
+                             String name,
+                             String sequenceName,
+                             Function<ENTITY, Long> getter,
+                             BiConsumer<ENTITY, Long> setter,
+                             SequenceAllocator sequenceAllocator) {
         this.prefix = prefix;
         this.name = name;
+        this.label = prefix + name;
         this.sequenceName = sequenceName;
         this.setter = setter;
         this.getter = getter;
+        this.sequenceAllocator = sequenceAllocator;
     }
 
     @Override
@@ -52,6 +66,21 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
         return sequenceName;
     }
 
+    @Override
+    public long nextKey(Connection connection) {
+        return sequenceAllocator.nextValue(connection);
+    }
+
+    @Override
+    public int getSequenceBlockSize() {
+        return sequenceAllocator.getBlockSize();
+    }
+
+    @Override
+    public void setSequenceBlockSize(int blockSize) {
+        this.sequenceAllocator = new SequenceAllocator(sequenceName, blockSize);
+    }
+
     @Override
     public void setKey(ENTITY builder, Long id) {
         setter.accept(builder, id);
@@ -74,7 +103,12 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
 
     @Override
     public PopulateResult populate(ENTITY constructor, ResultSet resultSet) throws SQLException {
-        Long value = resultSet.getLong(prefix  + name);
+        return populate(constructor, resultSet, SelectPositions.none(), JoinedEntities.unshared());
+    }
+
+    @Override
+    public PopulateResult populate(ENTITY constructor, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        long value = readKey(resultSet, positions);
         setter.accept(constructor, value);
         if (value == 0){
             return PopulateResult.NoPrimaryKey;
@@ -83,6 +117,12 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
 
     }
 
+    @Override
+    public long readKey(ResultSet resultSet, SelectPositions positions) throws SQLException {
+        int index = positions.get(this);
+        return index > 0 ? resultSet.getLong(index) : resultSet.getLong(label);
+    }
+
     @Override
     public void setValue(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
         Long value = getter.apply(item);
@@ -95,7 +135,7 @@ public class DirectPrimaryKey<ENTITY> implements PrimaryKey<ENTITY, ENTITY> {
 
     @Override
     public Column<ENTITY, ENTITY> withPrefix(String newPrefix, Prefixer prefixer) {
-        return new DirectPrimaryKey<>(newPrefix, name, sequenceName, getter, setter);
+        return new DirectPrimaryKey<>(newPrefix, name, sequenceName, getter, setter, sequenceAllocator);
     }
 
     @Override
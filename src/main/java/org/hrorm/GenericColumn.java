@@ -56,31 +56,31 @@ public class GenericColumn<TYPE> {
      * An instance that supports <code>Long</code> or <code>long</code> data elements.
      */
     public static GenericColumn<Long> LONG =
-            new GenericColumn<>(PreparedStatement::setLong, ResultSet::getLong, Types.INTEGER, "integer", ColumnTypes.IntegerTypes);
+            new GenericColumn<>(PreparedStatement::setLong, ResultSet::getLong, ResultSet::getLong, Types.INTEGER, "integer", ColumnTypes.IntegerTypes);
 
     /**
      * An instance that supports <code>BigDecimal</code> data elements.
      */
     public static GenericColumn<BigDecimal> BIG_DECIMAL =
-            new GenericColumn<>(PreparedStatement::setBigDecimal, ResultSet::getBigDecimal, Types.DECIMAL, "decimal", ColumnTypes.DecimalTypes);
+            new GenericColumn<>(PreparedStatement::setBigDecimal, ResultSet::getBigDecimal, ResultSet::getBigDecimal, Types.DECIMAL, "decimal", ColumnTypes.DecimalTypes);
 
     /**
      * An instance that supports <code>Boolean</code> or <code>boolean</code> data elements.
      */
     public static GenericColumn<Boolean> BOOLEAN =
-            new GenericColumn<>(PreparedStatement::setBoolean, ResultSet::getBoolean, Types.BOOLEAN, "boolean", ColumnTypes.BooleanTypes);
+            new GenericColumn<>(PreparedStatement::setBoolean, ResultSet::getBoolean, ResultSet::getBoolean, Types.BOOLEAN, "boolean", ColumnTypes.BooleanTypes);
 
     /**
      * An instance that supports <code>String</code> data elements.
      */
     public static GenericColumn<String> STRING =
-            new GenericColumn<>(PreparedStatement::setString, ResultSet::getString, Types.VARCHAR, "text", ColumnTypes.StringTypes);
+            new GenericColumn<>(PreparedStatement::setString, ResultSet::getString, ResultSet::getString, Types.VARCHAR, "text", ColumnTypes.StringTypes);
 
     /**
      * An instance that supports <code>Timestamp</code> data elements.
      */
     public static GenericColumn<Timestamp> TIMESTAMP =
-            new GenericColumn<>(PreparedStatement::setTimestamp, ResultSet::getTimestamp, Types.TIMESTAMP, "timestamp", ColumnTypes.InstantTypes);
+            new GenericColumn<>(PreparedStatement::setTimestamp, ResultSet::getTimestamp, ResultSet::getTimestamp, Types.TIMESTAMP, "timestamp", ColumnTypes.InstantTypes);
 
     // extension types
 
@@ -88,31 +88,32 @@ public class GenericColumn<TYPE> {
      * An instance that supports <code>Integer</code> or <code>int</code> data elements.
      */
     public static GenericColumn<Integer> INTEGER =
-            new GenericColumn<>(PreparedStatement::setInt, ResultSet::getInt, Types.INTEGER, "integer", ColumnTypes.IntegerTypes);
+            new GenericColumn<>(PreparedStatement::setInt, ResultSet::getInt, ResultSet::getInt, Types.INTEGER, "integer", ColumnTypes.IntegerTypes);
 
     /**
      * An instance that supports <code>Byte</code> or <code>byte</code> data elements.
      */
     public static GenericColumn<Byte> BYTE =
-            new GenericColumn<>(PreparedStatement::setByte, ResultSet::getByte, Types.TINYINT, "tinyint", ColumnTypes.IntegerTypes);
+            new GenericColumn<>(PreparedStatement::setByte, ResultSet::getByte, ResultSet::getByte, Types.TINYINT, "tinyint", ColumnTypes.IntegerTypes);
 
     /**
      * An instance that supports <code>Float</code> or <code>float</code> data elements.
      */
     public static GenericColumn<Float> FLOAT =
-            new GenericColumn<>(PreparedStatement::setFloat, ResultSet::getFloat, Types.FLOAT, "float", ColumnTypes.DecimalTypes);
+            new GenericColumn<>(PreparedStatement::setFloat, ResultSet::getFloat, ResultSet::getFloat, Types.FLOAT, "float", ColumnTypes.DecimalTypes);
 
     /**
      * An instance that supports <code>Double</code> or <code>double</code> data elements.
      */
     public static GenericColumn<Double> DOUBLE =
-            new GenericColumn<>(PreparedStatement::setDouble, ResultSet::getDouble, Types.DOUBLE, "double", ColumnTypes.DecimalTypes);
+            new GenericColumn<>(PreparedStatement::setDouble, ResultSet::getDouble, ResultSet::getDouble, Types.DOUBLE, "double", ColumnTypes.DecimalTypes);
 
     private final Integer sqlType;
     private final Set<Integer> supportedTypes;
     private final String sqlTypeName;
     private final PreparedStatementSetter<TYPE> preparedStatementSetter;
     private final ResultSetReader<TYPE> resultReader;
+    private final IndexedResultSetReader<TYPE> indexedResultReader;
 
     /**
      * Create a generic column instance to support the <code>TYPE</code>.
@@ -125,6 +126,7 @@ public class GenericColumn<TYPE> {
         this.sqlType = sqlType;
         this.preparedStatementSetter = preparedStatementSetter;
         this.resultReader = resultReader;
+        this.indexedResultReader = null;
         this.sqlTypeName = "UNSET";
         this.supportedTypes = Collections.singleton(sqlType);
     }
@@ -142,6 +144,7 @@ public class GenericColumn<TYPE> {
         this.sqlType = sqlType;
         this.preparedStatementSetter = preparedStatementSetter;
         this.resultReader = resultReader;
+        this.indexedResultReader = null;
         this.sqlTypeName = sqlTypeName;
         this.supportedTypes = Collections.singleton(sqlType);
     }
@@ -161,6 +164,21 @@ public class GenericColumn<TYPE> {
         this.sqlType = sqlType;
         this.preparedStatementSetter = preparedStatementSetter;
         this.resultReader = resultReader;
+        this.indexedResultReader = null;
+        this.sqlTypeName = sqlTypeName;
+        this.supportedTypes = Collections.unmodifiableSet(supportedTypes);
+    }
+
+    GenericColumn(PreparedStatementSetter<TYPE> preparedStatementSetter,
+                  ResultSetReader<TYPE> resultReader,
+                  IndexedResultSetReader<TYPE> indexedResultReader,
+                  int sqlType,
+                  String sqlTypeName,
+                  Set<Integer> supportedTypes){
+        this.sqlType = sqlType;
+        this.preparedStatementSetter = preparedStatementSetter;
+        this.resultReader = resultReader;
+        this.indexedResultReader = indexedResultReader;
         this.sqlTypeName = sqlTypeName;
         this.supportedTypes = Collections.unmodifiableSet(supportedTypes);
     }
@@ -173,6 +191,28 @@ public class GenericColumn<TYPE> {
         return value;
     }
 
+    /**
+     * Read a value out of a result set, using the position of the column
+     * if it is known and this column type supports reading by position,
+     * and otherwise using its label.
+     *
+     * @param resultSet The result set to read
+     * @param columnIndex The one-based position of the column, or zero if it is not known
+     * @param columnName The label of the column
+     * @return The value read, or null if the database value was null
+     * @throws SQLException allowed for <code>ResultSet</code> operations
+     */
+    public TYPE fromResultSet(ResultSet resultSet, int columnIndex, String columnName) throws SQLException {
+        if( columnIndex <= 0 || indexedResultReader == null ){
+            return fromResultSet(resultSet, columnName);
+        }
+        TYPE value = indexedResultReader.read(resultSet, columnIndex);
+        if( resultSet.wasNull() ){
+            return null;
+        }
+        return value;
+    }
+
     public void setPreparedStatement(PreparedStatement preparedStatement, int index, TYPE value) throws SQLException {
         preparedStatementSetter.apply(preparedStatement, index, value);
     }
@@ -0,0 +1,19 @@
+package org.hrorm;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * An interface representing a function that can read a value out
+ * of a <code>java.sql.ResultSet</code> by the position of its column.
+ *
+ * <p>
+ *     See: {@link GenericColumn}.
+ * </p>
+ *
+ * @param <TYPE> The type to be read from the <code>ResultSet</code>.
+ */
+@FunctionalInterface
+interface IndexedResultSetReader<TYPE> {
+    TYPE read(ResultSet resultSet, int columnIndex) throws SQLException;
+}
@@ -7,7 +7,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 
 /**
@@ -70,6 +76,11 @@ public class IndirectDaoBuilder<ENTITY, BUILDER>  implements SchemaDescriptor<EN
         return daoBuilderHelper.getBuildFunction();
     }
 
+    @Override
+    public StatementOptions statementOptions() {
+        return daoBuilderHelper.getStatementOptions();
+    }
+
     /**
      * Creates a {@link Dao} for performing CRUD operations of type <code>ENTITY</code>.
      *
@@ -84,6 +95,86 @@ public class IndirectDaoBuilder<ENTITY, BUILDER>  implements SchemaDescriptor<EN
         return new DaoImpl<>(connection, this);
     }
 
+    /**
+     * Set the number of rows that are sent to the database together
+     * when many records are inserted, updated, or deleted at once.
+     *
+     * @param batchSize The number of rows in each batch.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withBatchSize(int batchSize){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withBatchSize(batchSize));
+        return this;
+    }
+
+    /**
+     * Keep up to the passed number of prepared statements open for reuse
+     * by each <code>Dao</code> built. Statements are reused only by the
+     * <code>Dao</code> (and its <code>Connection</code>) that prepared them,
+     * and the least recently used statement is closed when the limit is
+     * exceeded. By default, no statements are cached.
+     *
+     * @param statementCacheSize The number of statements to keep open.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withStatementCacheSize(int statementCacheSize){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withStatementCacheSize(statementCacheSize));
+        return this;
+    }
+
+    /**
+     * Set the number of rows the JDBC driver should fetch at a time
+     * when reading the results of selects. Combined with
+     * <code>foldingSelect</code>, a large fetch size allows very large
+     * results to be processed without holding them all in memory.
+     * Some drivers (e.g. PostgreSQL) only honor the fetch size when the
+     * connection is not in auto-commit mode.
+     *
+     * @param fetchSize The number of rows to fetch at a time.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withFetchSize(int fetchSize){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withFetchSize(fetchSize));
+        return this;
+    }
+
+    /**
+     * Set the largest number of rows that selects will return. The limit
+     * applies to the records selected, not to their children.
+     *
+     * @param maxRows The largest number of rows to return, or zero for no limit.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withMaxRows(int maxRows){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withMaxRows(maxRows));
+        return this;
+    }
+
+    /**
+     * Set the number of seconds the driver will wait for each statement
+     * to execute.
+     *
+     * @param queryTimeout The number of seconds to wait, or zero for no limit.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withQueryTimeout(int queryTimeout){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withQueryTimeout(queryTimeout));
+        return this;
+    }
+
+    /**
+     * Set whether each select builds a joined entity only once and shares
+     * that instance between all the records that join to it through the
+     * same join column. The children of a shared entity are also read only once.
+     *
+     * @param sharedJoinedEntities True to share joined entities within a select.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withSharedJoinedEntities(boolean sharedJoinedEntities){
+        daoBuilderHelper.setStatementOptions(daoBuilderHelper.getStatementOptions().withSharedJoinedEntities(sharedJoinedEntities));
+        return this;
+    }
+
     /**
      * Build the SQL that will be used by <code>DAO</code> objects created by this builder.
      *
@@ -121,6 +212,54 @@ public class IndirectDaoBuilder<ENTITY, BUILDER>  implements SchemaDescriptor<EN
         return this;
     }
 
+    /**
+     * Describes a numeric data element with no decimal or fractional part,
+     * held in a primitive <code>long</code>. The value is never boxed, and a
+     * null in the database is read as zero.
+     *
+     * @param columnName The name of the column that holds the data element.
+     * @param getter The function on <code>ENTITY</code> that returns the data element.
+     * @param setter The function on <code>BUILDER</code> that consumes the data element.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withPrimitiveLongColumn(String columnName, ToLongFunction<ENTITY> getter, ObjLongConsumer<BUILDER> setter){
+        Column<ENTITY, BUILDER> column = PrimitiveColumn.longColumn(columnName, daoBuilderHelper.getPrefix(), getter, setter);
+        columnCollection.addDataColumn(column);
+        return this;
+    }
+
+    /**
+     * Describes a numeric data element with no decimal or fractional part,
+     * held in a primitive <code>int</code>. The value is never boxed, and a
+     * null in the database is read as zero.
+     *
+     * @param columnName The name of the column that holds the data element.
+     * @param getter The function on <code>ENTITY</code> that returns the data element.
+     * @param setter The function on <code>BUILDER</code> that consumes the data element.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withPrimitiveIntColumn(String columnName, ToIntFunction<ENTITY> getter, ObjIntConsumer<BUILDER> setter){
+        Column<ENTITY, BUILDER> column = PrimitiveColumn.intColumn(columnName, daoBuilderHelper.getPrefix(), getter, setter);
+        columnCollection.addDataColumn(column);
+        return this;
+    }
+
+    /**
+     * Describes a numeric data element that may have a fractional part,
+     * held in a primitive <code>double</code>. The value is never boxed, and a
+     * null in the database is read as zero.
+     *
+     * @param columnName The name of the column that holds the data element.
+     * @param getter The function on <code>ENTITY</code> that returns the data element.
+     * @param setter The function on <code>BUILDER</code> that consumes the data element.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withPrimitiveDoubleColumn(String columnName, ToDoubleFunction<ENTITY> getter, ObjDoubleConsumer<BUILDER> setter){
+        Column<ENTITY, BUILDER> column = PrimitiveColumn.doubleColumn(columnName, daoBuilderHelper.getPrefix(), getter, setter);
+        columnCollection.addDataColumn(column);
+        return this;
+    }
+
     /**
      * Describes a numeric data element with a decimal part.
      *
@@ -301,6 +440,28 @@ public class IndirectDaoBuilder<ENTITY, BUILDER>  implements SchemaDescriptor<EN
         return this;
     }
 
+    /**
+     * Set the number of primary keys reserved with each read of the sequence.
+     * Keys from a reserved block are issued to new records without another
+     * trip to the database. Must be called after the primary key is set.
+     *
+     * <p>
+     *     The sequence itself must increment by the same amount, e.g.
+     *     <code>create sequence foo_seq increment by 50</code>, otherwise
+     *     duplicate keys will be issued.
+     * </p>
+     *
+     * @param blockSize The number of keys to reserve at once.
+     * @return This instance.
+     */
+    public IndirectDaoBuilder<ENTITY, BUILDER> withSequenceBlockSize(int blockSize){
+        if( primaryKey() == null ){
+            throw new HrormException("Must set a primary key before setting its sequence block size.");
+        }
+        primaryKey().setSequenceBlockSize(blockSize);
+        return this;
+    }
+
     /**
      * Indicator that the column is a reference to an owning parent object.
      *
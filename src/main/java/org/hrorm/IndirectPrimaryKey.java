@@ -1,5 +1,6 @@
 package org.hrorm;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -22,9 +23,11 @@ public class IndirectPrimaryKey<ENTITY, BUILDER> implements PrimaryKey<ENTITY, B
 
     private final String prefix;
     private final String name;
+    private final String label;
     private final String sequenceName;
     private final BiConsumer<BUILDER, Long> setter;
     private final Function<ENTITY, Long> getter;
+    private SequenceAllocator sequenceAllocator;
     private String sqlTypeName = "integer";
 
     public IndirectPrimaryKey(String prefix,
@@ -32,11 +35,22 @@ public class IndirectPrimaryKey<ENTITY, BUILDER> implements PrimaryKey<ENTITY, B
                               String sequenceName,
                               Function<ENTITY, Long> getter,
                               BiConsumer<BUILDER, Long> setter) {
+        this(prefix, name, sequenceName, getter, setter, new SequenceAllocator(sequenceName, 1));
+    }
+
+    private IndirectPrimaryKey(String prefix,
+                               String name,
+                               String sequenceName,
+                               Function<ENTITY, Long> getter,
+                               BiConsumer<BUILDER, Long> setter,
+                               SequenceAllocator sequenceAllocator) {
         this.prefix = prefix;
         this.name = name;
+        this.label = prefix + name;
         this.sequenceName = sequenceName;
         this.setter = setter;
         this.getter = getter;
+        this.sequenceAllocator = sequenceAllocator;
     }
 
     @Override
@@ -52,6 +66,21 @@ public class IndirectPrimaryKey<ENTITY, BUILDER> implements PrimaryKey<ENTITY, B
         return sequenceName;
     }
 
+    @Override
+    public long nextKey(Connection connection) {
+        return sequenceAllocator.nextValue(connection);
+    }
+
+    @Override
+    public int getSequenceBlockSize() {
+        return sequenceAllocator.getBlockSize();
+    }
+
+    @Override
+    public void setSequenceBlockSize(int blockSize) {
+        this.sequenceAllocator = new SequenceAllocator(sequenceName, blockSize);
+    }
+
     @Override
     public void setKey(BUILDER builder, Long id) {
         setter.accept(builder, id);
@@ -76,15 +105,26 @@ public class IndirectPrimaryKey<ENTITY, BUILDER> implements PrimaryKey<ENTITY, B
 
     @Override
     public PopulateResult populate(BUILDER constructor, ResultSet resultSet) throws SQLException {
-        Long value = resultSet.getLong(prefix  + name);
+        return populate(constructor, resultSet, SelectPositions.none(), JoinedEntities.unshared());
+    }
+
+    @Override
+    public PopulateResult populate(BUILDER constructor, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        long value = readKey(resultSet, positions);
         setter.accept(constructor, value);
-        if ( value == null || value == 0 ){
+        if ( value == 0 ){
             return PopulateResult.NoPrimaryKey;
         }
         return PopulateResult.PrimaryKey;
 
     }
 
+    @Override
+    public long readKey(ResultSet resultSet, SelectPositions positions) throws SQLException {
+        int index = positions.get(this);
+        return index > 0 ? resultSet.getLong(index) : resultSet.getLong(label);
+    }
+
     @Override
     public void setValue(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
         Long value = getter.apply(item);
@@ -97,7 +137,7 @@ public class IndirectPrimaryKey<ENTITY, BUILDER> implements PrimaryKey<ENTITY, B
 
     @Override
     public Column<ENTITY, BUILDER> withPrefix(String newPrefix, Prefixer prefixer) {
-        return new IndirectPrimaryKey<>(newPrefix, name, sequenceName, getter, setter);
+        return new IndirectPrimaryKey<>(newPrefix, name, sequenceName, getter, setter, sequenceAllocator);
     }
 
     @Override
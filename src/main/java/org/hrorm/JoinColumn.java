@@ -73,23 +73,40 @@ public class JoinColumn<ENTITY, JOINED, ENTITYBUILDER, JOINEDBUILDER> implements
 
     @Override
     public PopulateResult populate(ENTITYBUILDER builder, ResultSet resultSet) throws SQLException {
+        return populate(builder, resultSet, SelectPositions.none(), JoinedEntities.unshared());
+    }
+
+    @Override
+    public PopulateResult populate(ENTITYBUILDER builder, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        PrimaryKey<JOINED, JOINEDBUILDER> primaryKey = daoDescriptor.primaryKey();
+        long joinedId = primaryKey.readKey(resultSet, positions);
+        if ( joinedId == 0 ){
+            return PopulateResult.Ignore;
+        }
+        JOINED existing = joinedEntities.get(prefix, joinedId);
+        if ( existing != null ){
+            setter.accept(builder, existing);
+            return PopulateResult.Ignore;
+        }
+
         JOINEDBUILDER joinedBuilder = daoDescriptor.supplier().get();
+        primaryKey.setKey(joinedBuilder, joinedId);
         for (Column<JOINED, JOINEDBUILDER> column: daoDescriptor.nonJoinColumns()) {
-            PopulateResult result = column.populate(joinedBuilder, resultSet);
-            if ( result == PopulateResult.NoPrimaryKey ){
-                return PopulateResult.Ignore;
+            if ( ! column.isPrimaryKey() ){
+                column.populate(joinedBuilder, resultSet, positions, joinedEntities);
             }
         }
         for(JoinColumn<JOINED,?, JOINEDBUILDER,?> joinColumn : daoDescriptor.joinColumns()){
-            joinColumn.populate(joinedBuilder, resultSet);
+            joinColumn.populate(joinedBuilder, resultSet, positions, joinedEntities);
         }
 
         JOINED joinedItem = joinBuilder.apply(joinedBuilder);
+        joinedEntities.put(prefix, joinedId, joinedItem);
         setter.accept(builder, joinedItem);
         return PopulateResult.fromJoinColumn(
-                connection -> {
+                statementCache -> {
                     for(ChildrenDescriptor<JOINED,?, JOINEDBUILDER,?> childrenDescriptor : daoDescriptor.childrenDescriptors()){
-                        childrenDescriptor.populateChildren(connection, joinedBuilder);
+                        childrenDescriptor.populateChildren(statementCache, joinedBuilder);
                     }
                 }
         );
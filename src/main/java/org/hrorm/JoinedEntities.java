@@ -0,0 +1,69 @@
+package org.hrorm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The joined entities already built while reading the results of a
+ * single select, keyed by the prefix of the join and primary key.
+ *
+ * <p>
+ *     When a select is configured to share joined entities, every record
+ *     that joins to the same row of another table through the same join is
+ *     given the same instance, and the children of that instance are read
+ *     only once. Entities are not shared between different joins, even to
+ *     the same table, since one join may read an entity fully while another
+ *     reads only a reference to it.
+ *     An instance lives only as long as the select that created it.
+ * </p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ */
+public class JoinedEntities {
+
+    private static final JoinedEntities UNSHARED = new JoinedEntities(false);
+
+    private final Map<String, Map<Long, Object>> entities;
+
+    private JoinedEntities(boolean shared){
+        this.entities = shared ? new HashMap<>() : null;
+    }
+
+    /**
+     * Create an instance that shares joined entities, for use
+     * by a single select.
+     *
+     * @return the new instance
+     */
+    public static JoinedEntities shared(){
+        return new JoinedEntities(true);
+    }
+
+    /**
+     * An instance that never shares: every lookup misses and nothing is kept.
+     *
+     * @return the instance
+     */
+    public static JoinedEntities unshared(){
+        return UNSHARED;
+    }
+
+    public boolean isShared(){
+        return entities != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String joinPrefix, long id){
+        if ( entities == null ){
+            return null;
+        }
+        Map<Long, Object> byId = entities.get(joinPrefix);
+        return byId == null ? null : (T) byId.get(id);
+    }
+
+    public void put(String joinPrefix, long id, Object entity){
+        if ( entities != null ){
+            entities.computeIfAbsent(joinPrefix, p -> new HashMap<>()).put(id, entity);
+        }
+    }
+}
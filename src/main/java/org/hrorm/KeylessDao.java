@@ -1,6 +1,7 @@
 package org.hrorm;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -27,6 +28,21 @@ public interface KeylessDao<ENTITY> {
      */
     Long insert(ENTITY item);
 
+    /**
+     * Insert many records into the database, reusing a single statement
+     * and sending the records to the database in batches. Any children
+     * of the records are inserted in batches as well.
+     *
+     * <p>As with {@link #insert(Object)}, a particular instance of this
+     * class may or may not attempt to mutate the state of the passed items
+     * by setting their primary keys.</p>
+     *
+     * @param items The instances to be inserted.
+     * @return The newly issued primary keys of the records, in the order of
+     *         the passed items. The keys will be null if there is no primary key.
+     */
+    List<Long> insertAll(Collection<ENTITY> items);
+
 
     /**
      * Read all the records in the database of type ENTITY.
@@ -119,6 +135,55 @@ public interface KeylessDao<ENTITY> {
      */
     List<ENTITY> select(Where where, Order order);
 
+    /**
+     * Run a select in the data store for entities matching the given where predicates,
+     * reading only the named columns. This is useful for listing the
+     * entities of a wide table, or one with many joins, when only a few of
+     * their fields are needed.
+     *
+     * <p>The primary key is always read. The fields of every other column are
+     * left null, or zero for primitive columns. Naming a join column reads
+     * the joined entity in full, and the joins for any join columns not named
+     * are left out of the select. Children are not read.</p>
+     *
+     * <p>The returned entities are incomplete, so they should not be passed
+     * to <code>update</code>.</p>
+     *
+     * @param where The predicates to drive selection.
+     * @param columnNames The names of the columns to read.
+     * @return The matching results.
+     */
+    List<ENTITY> selectColumns(Where where, String... columnNames);
+
+    /**
+     * Set the named columns to the values they have in the passed template,
+     * on every record that matches the where predicates, using a single
+     * update statement. The primary key and parent columns cannot be updated
+     * this way. Children are not changed.
+     *
+     * <pre>
+     *     template.setStatus(Status.Archived);
+     *     dao.updateWhere(template, Where.where("status", Operator.EQUALS, "ACTIVE"), "status");
+     * </pre>
+     *
+     * @param template An object holding the values to set
+     * @param where The predicates that select the records to update
+     * @param columnNames The names of the columns to set
+     * @return The number of records updated
+     */
+    long updateWhere(ENTITY template, Where where, String... columnNames);
+
+    /**
+     * Delete every record that matches the where predicates, using a single
+     * delete statement. An empty <code>Where</code> deletes every record in the
+     * table. The records of any children are not deleted, see
+     * {@link Dao#deleteWhereWithChildren(Where)}.
+     *
+     * @param where The predicates that select the records to delete
+     * @return The number of records deleted
+     */
+    long deleteWhere(Where where);
+
     /**
      * Insert a record into the database within a transaction that is
      * managed within the Dao. The Dao will either commit or rollback
@@ -144,6 +209,27 @@ public interface KeylessDao<ENTITY> {
      */
     <T> T foldingSelect(T identity, BiFunction<T,ENTITY,T> accumulator, Where where);
 
+    /**
+     * Computes a result based on the entities found by a select statement,
+     * visiting them in the order specified, without realizing the entire
+     * list of found entities in memory.
+     *
+     * <p>Entities are read from the result set and passed to the accumulator
+     * a batch at a time, so very large results can be processed with a
+     * bounded amount of memory. Setting a fetch size on the <code>Dao</code>
+     * controls how many rows the JDBC driver holds at once.</p>
+     *
+     * @param identity The identity element of the return type.
+     * @param accumulator A function that computes the desired value based on
+     *                    the values seen thus far and the next instance
+     *                    of the entity found in the result set.
+     * @param where Predicates to drive selection of results
+     * @param order The ordering to use
+     * @param <T> The type of the value to be computed.
+     * @return The computed value based on the results found in the underlying store.
+     */
+    <T> T foldingSelect(T identity, BiFunction<T,ENTITY,T> accumulator, Where where, Order order);
+
 
     /**
      * Computes an aggregated Long value, based on the select criteria specified
@@ -185,4 +271,71 @@ public interface KeylessDao<ENTITY> {
      */
     BigDecimal runBigDecimalFunction(SqlFunction function, String columnName, Where where);
 
+    /**
+     * Computes several aggregate values with a single select, optionally
+     * grouped by the values of some columns.
+     *
+     * <p>
+     *     Will run SQL that looks like this:
+     * </p>
+     *
+     * <code>
+     *     select GROUP_COLUMN, FUNCTION(COLUMN), FUNCTION(COLUMN) from TABLE where ... group by GROUP_COLUMN
+     * </code>
+     *
+     * @param aggregation The functions to run and the columns to group by
+     * @param where Predicates to drive selection of results
+     * @return One row for each group, or a single row if there is no grouping
+     */
+    List<AggregateRow> runFunctions(Aggregation aggregation, Where where);
+
+    /**
+     * The settings this <code>Dao</code> uses for its JDBC statements.
+     *
+     * @return the statement options
+     */
+    StatementOptions statementOptions();
+
+    /**
+     * Create a <code>Dao</code> that works exactly like this one, using
+     * the same <code>Connection</code>, but with different statement options.
+     * This allows settings like the fetch size or the maximum number of rows
+     * to be changed for a particular query, e.g.
+     *
+     * <pre>
+     *     dao.withStatementOptions(dao.statementOptions().withMaxRows(10)).select(where);
+     * </pre>
+     *
+     * <p>The options apply to the statements for type <code>ENTITY</code>,
+     * not to those that read or write its children. The new <code>Dao</code>
+     * shares the statement cache of this one, so its statement cache size
+     * is not changed.</p>
+     *
+     * @param statementOptions The options to use
+     * @return A new <code>Dao</code> using the passed options
+     */
+    KeylessDao<ENTITY> withStatementOptions(StatementOptions statementOptions);
+
+    /**
+     * Create a <code>Dao</code> that works like this one, but whose selects
+     * join and read only the tables along the passed join paths. Each path
+     * names a join column of this entity, optionally followed by join columns
+     * of the entities it joins to, separated by dots, e.g.
+     *
+     * <pre>
+     *     dao.withFetchedJoins("sibling_id.cousin_id").select(where);
+     * </pre>
+     *
+     * <p>An entity joined through a join column that is not fetched is read as
+     * a reference holding only its primary key, as long as the foreign key is
+     * in a table that is read. Entities joined to references are not read at all.
+     * Passing no paths makes every select read only this entity's own table,
+     * with each joined entity read as a reference. The statements of the
+     * new <code>Dao</code> are not cached.</p>
+     *
+     * @param joinPaths The join paths to fetch
+     * @return A new <code>Dao</code> using the passed join paths
+     */
+    KeylessDao<ENTITY> withFetchedJoins(String... joinPaths);
+
 }
@@ -42,6 +42,16 @@ public interface KeylessDaoDescriptor<ENTITY, ENTITYBUILDER> {
      */
     Function<ENTITYBUILDER, ENTITY> buildFunction();
 
+    /**
+     * The settings to use for the JDBC statements that persist
+     * type <code>ENTITY</code>.
+     *
+     * @return the statement options
+     */
+    default StatementOptions statementOptions(){
+        return StatementOptions.DEFAULT;
+    }
+
     default ColumnSelection<ENTITY, ENTITYBUILDER> select(String... columnNames) {
         return new ColumnSelection(allColumns(), columnNames);
     }
@@ -2,8 +2,13 @@ package org.hrorm;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -25,6 +30,7 @@ import java.util.stream.Collectors;
 public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements KeylessDao<ENTITY>, KeylessDaoDescriptor<ENTITY, BUILDER> {
 
     protected final Connection connection;
+    protected final StatementCache statementCache;
     protected final KeylessSqlBuilder<ENTITY> keylessSqlBuilder;
     protected final SqlRunner<ENTITY, BUILDER> sqlRunner;
 
@@ -33,6 +39,7 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
     private final String tableName;
     private final Supplier<BUILDER> supplier;
     private final Function<BUILDER, ENTITY> buildFunction;
+    private final StatementOptions statementOptions;
 
     private final List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors;
 
@@ -55,9 +62,62 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
         this.columnCollection = daoDescriptor.getColumnCollection();
         this.supplier = daoDescriptor.supplier();
         this.buildFunction = daoDescriptor.buildFunction();
+        this.statementOptions = daoDescriptor.statementOptions();
 
         this.keylessSqlBuilder = new KeylessSqlBuilder<>(this);
-        this.sqlRunner = new SqlRunner<>(connection, daoDescriptor);
+        this.statementCache = new StatementCache(connection, statementOptions.getStatementCacheSize());
+        this.sqlRunner = new SqlRunner<>(statementCache, daoDescriptor);
+        this.childrenDescriptors = childrenDescriptors;
+    }
+
+    /**
+     * Create a copy of a <code>Dao</code> that uses different statement options,
+     * sharing everything else, including its statement cache.
+     */
+    protected KeylessDaoImpl(KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                             StatementOptions statementOptions){
+        this(other, statementOptions, other.childrenDescriptors);
+    }
+
+    /**
+     * Create a copy of a <code>Dao</code> that uses different statement options
+     * and manages a different set of children, sharing everything else, including
+     * its statement cache.
+     */
+    protected KeylessDaoImpl(KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                             StatementOptions statementOptions,
+                             List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors){
+        this(other, statementOptions, childrenDescriptors, other.keylessSqlBuilder, other.statementCache);
+    }
+
+    /**
+     * Create a copy of a <code>Dao</code> that uses different statement options,
+     * children, and SQL, sharing everything else. Its statements are not cached,
+     * since they are different from those of the original, and nothing would
+     * close them.
+     */
+    protected KeylessDaoImpl(KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                             StatementOptions statementOptions,
+                             List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
+                             KeylessSqlBuilder<ENTITY> keylessSqlBuilder){
+        this(other, statementOptions, childrenDescriptors, keylessSqlBuilder, StatementCache.uncached(other.connection));
+    }
+
+    private KeylessDaoImpl(KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> other,
+                           StatementOptions statementOptions,
+                           List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
+                           KeylessSqlBuilder<ENTITY> keylessSqlBuilder,
+                           StatementCache statementCache){
+        this.connection = other.connection;
+        this.tableName = other.tableName;
+        this.columnCollection = other.columnCollection;
+        this.supplier = other.supplier;
+        this.buildFunction = other.buildFunction;
+        this.statementOptions = statementOptions;
+
+        this.keylessSqlBuilder = keylessSqlBuilder;
+        this.statementCache = statementCache;
+        this.sqlRunner = new SqlRunner<>(statementCache, other, statementOptions);
         this.childrenDescriptors = childrenDescriptors;
     }
 
@@ -77,12 +137,30 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
     @Override
     public Function<BUILDER, ENTITY> buildFunction() { return buildFunction; }
 
+    @Override
+    public StatementOptions statementOptions() { return statementOptions; }
+
+    @Override
+    public KeylessDao<ENTITY> withStatementOptions(StatementOptions statementOptions) {
+        return new KeylessDaoImpl<>(this, statementOptions);
+    }
+
+    @Override
+    public KeylessDao<ENTITY> withFetchedJoins(String... joinPaths) {
+        KeylessSqlBuilder<ENTITY> plannedSqlBuilder = new KeylessSqlBuilder<>(this, Arrays.asList(joinPaths));
+        return new KeylessDaoImpl<>(this, statementOptions, childrenDescriptors, plannedSqlBuilder);
+    }
+
     @Override
     public Long atomicInsert(ENTITY item) {
         Transactor transactor = new Transactor(connection);
-        return transactor.runAndCommit(
-               con -> { return insert(item); }
-        );
+        try {
+            return transactor.runAndCommit(
+                   con -> { return insert(item); }
+            );
+        } finally {
+            statementCache.close();
+        }
     }
 
     @Override
@@ -91,33 +169,50 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
         Envelope<ENTITY> envelope = new Envelope(item);
         sqlRunner.insert(sql, envelope);
         for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
-            childrenDescriptor.saveChildren(connection, new Envelope<>(item));
+            childrenDescriptor.saveChildren(statementCache, new Envelope<>(item));
         }
         return null;
     }
 
+    @Override
+    public List<Long> insertAll(Collection<ENTITY> items) {
+        String sql = keylessSqlBuilder.insert();
+        List<Envelope<ENTITY>> envelopes = new ArrayList<>();
+        for(ENTITY item : items){
+            envelopes.add(new Envelope<>(item));
+        }
+        sqlRunner.insertAll(sql, envelopes, statementOptions.getBatchSize());
+        for(ChildrenDescriptor<ENTITY,?, BUILDER,?> childrenDescriptor : childrenDescriptors){
+            childrenDescriptor.saveChildren(statementCache, envelopes);
+        }
+        return Collections.nCopies(envelopes.size(), null);
+    }
+
     protected Envelope<ENTITY> newEnvelope(ENTITY item, long id){
         return new Envelope<>(item, id);
     }
 
 
-    protected List<ENTITY> mapBuilders(List<BUILDER> bs){
-        return bs.stream().map(buildFunction).collect(Collectors.toList());
+    /**
+     * Run a select and build the entities found, one batch of rows at a time,
+     * directly into the list that is returned.
+     */
+    protected List<ENTITY> selectEntities(String sql, StatementPopulator statementPopulator){
+        BiFunction<List<ENTITY>, ENTITY, List<ENTITY>> accumulator =
+                (list, item) -> { list.add(item); return list; };
+        return sqlRunner.foldingSelect(sql, keylessSqlBuilder.selectPositions(), statementPopulator, supplier, childrenDescriptors, buildFunction, new ArrayList<>(), accumulator);
     }
 
-
     @Override
     public List<ENTITY> selectAll() {
         String sql = keylessSqlBuilder.select();
-        List<BUILDER> bs = sqlRunner.select(sql, supplier, childrenDescriptors);
-        return mapBuilders(bs);
+        return selectEntities(sql, ColumnSelection.empty().buildPopulator(null));
     }
 
     @Override
     public List<ENTITY> selectAll(Order order) {
         String sql = keylessSqlBuilder.select(order);
-        List<BUILDER> bs = sqlRunner.select(sql, supplier, childrenDescriptors);
-        return mapBuilders(bs);
+        return selectEntities(sql, ColumnSelection.empty().buildPopulator(null));
     }
 
 
@@ -129,18 +224,78 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
 
     @Override
     public List<ENTITY> selectManyByColumns(ENTITY item, String ... columnNames) {
-        ColumnSelection columnSelection = select(columnNames);
+        ColumnSelection<ENTITY, BUILDER> columnSelection = select(columnNames);
         String sql = keylessSqlBuilder.selectByColumns(columnSelection);
-        List<BUILDER> bs = sqlRunner.selectByColumns(sql, supplier, select(columnNames), childrenDescriptors, item);
-        return mapBuilders(bs);
+        return selectEntities(sql, columnSelection.buildPopulator(item));
     }
 
     @Override
     public List<ENTITY> selectManyByColumns(ENTITY template, Order order, String... columnNames) {
-        ColumnSelection columnSelection = select(columnNames);
+        ColumnSelection<ENTITY, BUILDER> columnSelection = select(columnNames);
         String sql = keylessSqlBuilder.selectByColumns(columnSelection, order);
-        List<BUILDER> bs = sqlRunner.selectByColumns(sql, supplier, select(columnNames), childrenDescriptors, template);
-        return mapBuilders(bs);
+        return selectEntities(sql, columnSelection.buildPopulator(template));
+    }
+
+    @Override
+    public List<ENTITY> selectColumns(Where where, String... columnNames) {
+        checkedColumns("selectColumns", columnNames);
+        String sql = keylessSqlBuilder.selectColumns(Arrays.asList(columnNames), where);
+        BiFunction<List<ENTITY>, ENTITY, List<ENTITY>> accumulator =
+                (list, item) -> { list.add(item); return list; };
+        return sqlRunner.foldingSelect(sql, keylessSqlBuilder.selectPositions(), where, supplier, Collections.emptyList(), buildFunction, new ArrayList<>(), accumulator);
+    }
+
+    @Override
+    public long updateWhere(ENTITY template, Where where, String... columnNames) {
+        ColumnSelection<ENTITY, BUILDER> columnSelection = updatableColumns("updateWhere", columnNames);
+        String sql = keylessSqlBuilder.updateWhere(columnSelection, where);
+        StatementPopulator columnPopulator = columnSelection.buildPopulator(template);
+        return sqlRunner.update(sql, statement -> {
+            columnPopulator.populate(statement);
+            where.populate(statement, columnNames.length + 1);
+        });
+    }
+
+    @Override
+    public long deleteWhere(Where where) {
+        String sql = keylessSqlBuilder.deleteWhere(where);
+        return sqlRunner.update(sql, where);
+    }
+
+    /**
+     * Select the named columns, checking that each one exists and is
+     * named only once.
+     */
+    private ColumnSelection<ENTITY, BUILDER> checkedColumns(String methodName, String... columnNames){
+        ColumnSelection<ENTITY, BUILDER> columnSelection = select(columnNames);
+        Set<String> namesSeen = new HashSet<>();
+        for ( String columnName : columnNames ){
+            if ( columnSelection.get(columnName.toUpperCase()) == null ){
+                throw new HrormException("Unrecognized column " + columnName + " in " + tableName);
+            }
+            if ( ! namesSeen.add(columnName.toUpperCase()) ){
+                throw new HrormException("Column " + columnName + " named more than once for " + methodName);
+            }
+        }
+        return columnSelection;
+    }
+
+    /**
+     * Select the named columns for an update, checking that each one exists,
+     * is named only once, and may be updated.
+     */
+    protected ColumnSelection<ENTITY, BUILDER> updatableColumns(String methodName, String... columnNames){
+        if ( columnNames.length == 0 ){
+            throw new HrormException("Must name at least one column to update");
+        }
+        ColumnSelection<ENTITY, BUILDER> columnSelection = checkedColumns(methodName, columnNames);
+        for ( String columnName : columnNames ){
+            Column<ENTITY, BUILDER> column = columnSelection.get(columnName.toUpperCase());
+            if ( column.isPrimaryKey() || column.isParentColumn() ){
+                throw new HrormException("Cannot update column " + columnName + " with " + methodName);
+            }
+        }
+        return columnSelection;
     }
 
     @Override
@@ -159,25 +314,35 @@ public class KeylessDaoImpl<ENTITY, PARENT, BUILDER, PARENTBUILDER> implements K
         return sqlRunner.runBigDecimalFunction(sql, where);
     }
 
+    @Override
+    public List<AggregateRow> runFunctions(Aggregation aggregation, Where where) {
+        String sql = keylessSqlBuilder.selectFunctions(aggregation, where);
+        return sqlRunner.runFunctions(sql, where, aggregation);
+    }
+
 
     @Override
     public <T> T foldingSelect(T identity, BiFunction<T,ENTITY,T> accumulator, Where where){
         String sql = keylessSqlBuilder.select(where) ;
-        return sqlRunner.foldingSelect(sql, where, supplier, childrenDescriptors, buildFunction, identity, accumulator);
+        return sqlRunner.foldingSelect(sql, keylessSqlBuilder.selectPositions(), where, supplier, childrenDescriptors, buildFunction, identity, accumulator);
+    }
+
+    @Override
+    public <T> T foldingSelect(T identity, BiFunction<T,ENTITY,T> accumulator, Where where, Order order){
+        String sql = keylessSqlBuilder.select(where, order);
+        return sqlRunner.foldingSelect(sql, keylessSqlBuilder.selectPositions(), where, supplier, childrenDescriptors, buildFunction, identity, accumulator);
     }
 
     @Override
     public List<ENTITY> select(Where where) {
         String sql = keylessSqlBuilder.select(where);
-        List<BUILDER> bs = sqlRunner.selectWhere(sql, supplier, childrenDescriptors, where);
-        return mapBuilders(bs);
+        return selectEntities(sql, where);
     }
 
     @Override
     public List<ENTITY> select(Where where, Order order) {
         String sql = keylessSqlBuilder.select(where, order);
-        List<BUILDER> bs = sqlRunner.selectWhere(sql, supplier, childrenDescriptors, where);
-        return mapBuilders(bs);
+        return selectEntities(sql, where);
     }
 
     public static <A> A fromSingletonList(List<A> items) {
@@ -1,8 +1,13 @@
 package org.hrorm;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -20,11 +25,40 @@ public class KeylessSqlBuilder<ENTITY> {
     private final String table;
     private final List<? extends Column<ENTITY,?>> nonJoinColumns;
     private final List<? extends JoinColumn<ENTITY, ?, ?, ?>> joinColumns;
+    private final List<JoinColumn<?, ?, ?, ?>> fetchedJoinColumns;
+
+    private final String select;
+    private final SelectPositions selectPositions;
+    private final String insert;
 
     public KeylessSqlBuilder(KeylessDaoDescriptor<ENTITY,?> daoDescriptor){
         this.table = daoDescriptor.tableName();
         this.nonJoinColumns = daoDescriptor.nonJoinColumns();
-        this.joinColumns = daoDescriptor.joinColumns();
+        this.joinColumns = Collections.unmodifiableList(new ArrayList<>(daoDescriptor.joinColumns()));
+        this.fetchedJoinColumns = flattenedJoinColumns();
+        this.select = buildSelect();
+        this.selectPositions = buildSelectPositions();
+        this.insert = buildInsert();
+    }
+
+    /**
+     * Create a builder whose selects join and read only the tables along the
+     * passed join paths. Each path is a list of join column names separated by
+     * dots, starting from a join column of this entity. Entities joined by
+     * a join column that is not fetched, but is in a table that is read,
+     * are read as references holding only their primary key.
+     *
+     * @param daoDescriptor The description of the entity
+     * @param joinPaths The join paths to fetch
+     */
+    public KeylessSqlBuilder(KeylessDaoDescriptor<ENTITY,?> daoDescriptor, Collection<String> joinPaths){
+        this.table = daoDescriptor.tableName();
+        this.nonJoinColumns = daoDescriptor.nonJoinColumns();
+        this.joinColumns = Collections.unmodifiableList(new ArrayList<>(daoDescriptor.joinColumns()));
+        this.fetchedJoinColumns = findJoinColumns(joinPaths);
+        this.select = buildSelect();
+        this.selectPositions = buildSelectPositions();
+        this.insert = buildInsert();
     }
 
     public String getTable(){
@@ -53,56 +87,198 @@ public class KeylessSqlBuilder<ENTITY> {
     }
 
     public String select(){
+        return select;
+    }
+
+    /**
+     * The positions of the columns in the select list, which is the same
+     * for every select this builder generates.
+     *
+     * @return The positions of the columns
+     */
+    public SelectPositions selectPositions(){
+        return selectPositions;
+    }
+
+    private String buildSelect(){
+        return renderSelect(column -> true, fetchedJoinColumns, true);
+    }
+
+    /**
+     * Render a select whose select list always has the same columns, in the
+     * same order, so that each column can be read by its position. Entity columns
+     * that are not included, and the columns of tables that are not fetched,
+     * are selected as null placeholders, and their tables are not joined.
+     *
+     * @param includedColumns Which of the entity's own columns to read
+     * @param fetched The join columns whose tables should be joined and read
+     * @param references Whether a join that is not fetched, but whose foreign key
+     *                   is in a table that is read, should be read as a reference
+     *                   holding only the joined primary key
+     */
+    private String renderSelect(Predicate<Column<ENTITY, ?>> includedColumns,
+                                List<JoinColumn<?, ?, ?, ?>> fetched,
+                                boolean references){
+        List<JoinColumn<?, ?, ?, ?>> flattenedJoinColumns = flattenedJoinColumns();
+        Set<String> readPrefixes = new HashSet<>();
+        readPrefixes.add("a");
+        for(JoinColumn<?, ?, ?, ?> joinColumn : fetched){
+            readPrefixes.add(joinColumn.getPrefix());
+        }
+
+        List<String> selections = new ArrayList<>();
+        for(Column<ENTITY, ?> column : nonJoinColumns){
+            selections.add(projectedColumn("a", column, includedColumns.test(column)));
+        }
+        for(JoinColumn<?, ?, ?, ?> joinColumn : flattenedJoinColumns) {
+            String prefix = joinColumn.getPrefix();
+            boolean isFetched = readPrefixes.contains(prefix);
+            boolean isReference = references && ! isFetched
+                    && readPrefixes.contains(joinColumn.getJoinedTablePrefix());
+            for(Column<?, ?> column : joinColumn.getNonJoinColumns()){
+                if( isReference && column.isPrimaryKey() ){
+                    selections.add(joinColumn.getJoinedTablePrefix() + "." + joinColumn.getName()
+                            + " as " + prefix + column.getName());
+                } else {
+                    selections.add(projectedColumn(prefix, column, isFetched));
+                }
+            }
+        }
+
         StringBuilder buf = new StringBuilder();
         buf.append("select ");
-        buf.append(columnsAsString("a", true, nonJoinColumns));
-        for(JoinColumn<?, ?, ?, ?> joinColumn : flattenedJoinColumns()) {
-            buf.append(", ");
-            buf.append(columnsAsString(
-                    joinColumn.getPrefix(),
-                    true,
-                    joinColumn.getNonJoinColumns()
-            ));
-        }
+        buf.append(String.join(", ", selections));
         buf.append(" from ");
         buf.append(table);
         buf.append(" a");
-        List<JoinColumn> flattenedJoinColumns = flattenedJoinColumns();
-        for(JoinColumn joinColumn : flattenedJoinColumns) {
-            buf.append(" LEFT JOIN ");
-            buf.append(joinColumn.getTable());
-            buf.append(" ");
-            buf.append(joinColumn.getPrefix());
-            buf.append(" ON ");
-            buf.append(joinColumn.getJoinedTablePrefix());
-            buf.append(".");
-            buf.append(joinColumn.getName());
-            buf.append("=");
-            buf.append(joinColumn.getPrefix());
-            buf.append(".");
-            buf.append(joinColumn.getJoinedTablePrimaryKeyName());
+        for(JoinColumn<?, ?, ?, ?> joinColumn : flattenedJoinColumns) {
+            if( readPrefixes.contains(joinColumn.getPrefix()) ){
+                appendJoin(buf, joinColumn);
+            }
         }
         buf.append(" where 1=1 ");
 
         return buf.toString();
     }
 
+    private void appendJoin(StringBuilder buf, JoinColumn<?, ?, ?, ?> joinColumn){
+        buf.append(" LEFT JOIN ");
+        buf.append(joinColumn.getTable());
+        buf.append(" ");
+        buf.append(joinColumn.getPrefix());
+        buf.append(" ON ");
+        buf.append(joinColumn.getJoinedTablePrefix());
+        buf.append(".");
+        buf.append(joinColumn.getName());
+        buf.append("=");
+        buf.append(joinColumn.getPrefix());
+        buf.append(".");
+        buf.append(joinColumn.getJoinedTablePrimaryKeyName());
+    }
+
+    private String projectedColumn(String prefix, Column<?, ?> column, boolean included){
+        String label = prefix + column.getName();
+        if( included ){
+            return prefix + "." + column.getName() + " as " + label;
+        }
+        return "NULL as " + label;
+    }
+
+    /**
+     * Find the join columns named by dotted paths of join column names,
+     * such as <code>"sibling_id.cousin_id"</code>, including every join
+     * column along each path.
+     */
+    private List<JoinColumn<?, ?, ?, ?>> findJoinColumns(Collection<String> joinPaths){
+        List<JoinColumn<?, ?, ?, ?>> found = new ArrayList<>();
+        for(String joinPath : joinPaths){
+            List<? extends JoinColumn<?, ?, ?, ?>> candidates = joinColumns;
+            for(String name : joinPath.split("\\.")){
+                JoinColumn<?, ?, ?, ?> match = null;
+                for(JoinColumn<?, ?, ?, ?> candidate : candidates){
+                    if( candidate.getName().equalsIgnoreCase(name) ){
+                        match = candidate;
+                    }
+                }
+                if( match == null ){
+                    throw new HrormException("Unrecognized join column " + name + " in join path " + joinPath);
+                }
+                if( ! found.contains(match) ){
+                    found.add(match);
+                }
+                candidates = match.getTransitiveJoins();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * A select with the same select list as {@link #select()}, that reads only
+     * the named columns of the entity, its key columns, and the entities joined
+     * through the named join columns. Every other column is selected as a null
+     * placeholder, so that each column keeps its position in the select list,
+     * and joins that are not needed are left out.
+     *
+     * @param columnNames The names of the columns to read
+     * @param where The predicates to apply
+     * @return The SQL of the select
+     */
+    public String selectColumns(Collection<String> columnNames, Where where){
+        Set<String> names = columnNames.stream().map(String::toUpperCase).collect(Collectors.toSet());
+
+        List<JoinColumn<?, ?, ?, ?>> includedJoinColumns = new ArrayList<>();
+        for(JoinColumn<?, ?, ?, ?> joinColumn : joinColumns){
+            if( names.contains(joinColumn.getName().toUpperCase()) ){
+                appendColumnsRecursively(includedJoinColumns, joinColumn);
+            }
+        }
+        Predicate<Column<ENTITY, ?>> includedColumns = column -> column.isPrimaryKey()
+                || column.isParentColumn()
+                || names.contains(column.getName().toUpperCase());
+
+        StringBuilder buf = new StringBuilder(renderSelect(includedColumns, includedJoinColumns, false));
+        String whereClause = where.render();
+        if ( whereClause.length() > 0 ) {
+            buf.append(" AND ");
+            buf.append(whereClause);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * The columns of the select list, in the same order they are rendered
+     * by {@link #renderSelect(Predicate, List, boolean)}.
+     */
+    private SelectPositions buildSelectPositions(){
+        List<Column<?, ?>> columns = new ArrayList<>(nonJoinColumns);
+        for(JoinColumn<?, ?, ?, ?> joinColumn : flattenedJoinColumns()){
+            columns.addAll(joinColumn.getNonJoinColumns());
+        }
+        return new SelectPositions(columns);
+    }
+
     public String select(Order order){
-        return select() + order.render();
+        return select + order.render();
     }
 
     public String select(Where where){
         String whereClause = where.render();
         if ( whereClause.length() > 0 ) {
-            return select() + " AND " + whereClause;
+            return select + " AND " + whereClause;
         } else {
-            return select();
+            return select;
         }
     }
 
     public String select(Where where, Order order){
-        String sql = select(where);
-        return sql + order.render();
+        String whereClause = where.render();
+        StringBuilder buf = new StringBuilder(select);
+        if ( whereClause.length() > 0 ) {
+            buf.append(" AND ");
+            buf.append(whereClause);
+        }
+        buf.append(order.render());
+        return buf.toString();
     }
 
     public String selectFunction(SqlFunction function, String columnName, Where where){
@@ -125,25 +301,62 @@ public class KeylessSqlBuilder<ENTITY> {
         return buf.toString();
     }
 
-    private List<JoinColumn> flattenedJoinColumns(){
-        List<JoinColumn> flatJoinColumnList = new ArrayList<>();
-        for(JoinColumn joinColumn : joinColumns){
-            prependColumnsRecursively(flatJoinColumnList, joinColumn);
+    public String selectFunctions(Aggregation aggregation, Where where){
+        List<SqlFunction> functions = aggregation.getFunctions();
+        if ( functions.isEmpty() ){
+            throw new HrormException("Must provide at least one function to aggregate");
         }
+        List<String> groupBys = aggregation.getGroupByColumnNames().stream()
+                .map(c -> "a." + c)
+                .collect(Collectors.toList());
+        List<String> selections = new ArrayList<>(groupBys);
+        for(int idx=0; idx<functions.size(); idx++){
+            selections.add(functions.get(idx).getFunctionName() + " ( a." + aggregation.getFunctionColumnNames().get(idx) + " )");
+        }
+
+        StringBuilder buf = new StringBuilder();
+        buf.append("select ");
+        buf.append(String.join(", ", selections));
+        buf.append(" from ");
+        buf.append(table);
+        buf.append(" a");
+
+        String whereClause = where.render();
+        if ( whereClause.length() > 1) {
+            buf.append(" where ");
+            buf.append(whereClause);
+        }
+
+        if ( ! groupBys.isEmpty() ){
+            buf.append(" group by ");
+            buf.append(String.join(", ", groupBys));
+        }
+
+        return buf.toString();
+    }
+
+    /**
+     * Every join column reachable from this entity, each one listed before
+     * the columns it joins to transitively, so that the joins can be
+     * rendered in order.
+     */
+    private List<JoinColumn<?, ?, ?, ?>> flattenedJoinColumns(){
+        List<JoinColumn<?, ?, ?, ?>> flatJoinColumnList = new ArrayList<>();
+        for(JoinColumn<?, ?, ?, ?> joinColumn : joinColumns){
+            appendColumnsRecursively(flatJoinColumnList, joinColumn);
+        }
+        Collections.reverse(flatJoinColumnList);
         return flatJoinColumnList;
     }
 
-    private void prependColumnsRecursively(List<JoinColumn> listToBuild, JoinColumn columnToAdd){
-        List<JoinColumn> listToAppend = columnToAdd.getTransitiveJoins();
-        listToAppend.forEach(c -> prependColumnsRecursively(listToBuild, c));
-        listToBuild.add(0, columnToAdd);
+    private void appendColumnsRecursively(List<JoinColumn<?, ?, ?, ?>> listToBuild, JoinColumn<?, ?, ?, ?> columnToAdd){
+        List<? extends JoinColumn<?, ?, ?, ?>> listToAppend = columnToAdd.getTransitiveJoins();
+        listToAppend.forEach(c -> appendColumnsRecursively(listToBuild, c));
+        listToBuild.add(columnToAdd);
     }
 
     public String selectByColumns(ColumnSelection selectColumnList){
-        StringBuilder buf = new StringBuilder();
-        buf.append(select());
-        buf.append(selectColumnList.whereClause());
-        return buf.toString();
+        return select + selectColumnList.whereClause();
     }
 
     public String selectByColumns(ColumnSelection columnSelection, Order order){
@@ -151,6 +364,46 @@ public class KeylessSqlBuilder<ENTITY> {
     }
 
     public String insert(){
+        return insert;
+    }
+
+    /**
+     * An update that sets the selected columns on every record matching
+     * the where predicates. The parameters of the set clause come first,
+     * followed by those of the where clause.
+     *
+     * @param columnSelection The columns to set
+     * @param where The predicates of the update
+     * @return The SQL of the update
+     */
+    public String updateWhere(ColumnSelection<ENTITY,?> columnSelection, Where where){
+        StringBuilder buf = new StringBuilder();
+        buf.append("update ");
+        buf.append(table);
+        buf.append(" a set ");
+        buf.append(columnSelection.setClause());
+        appendWhere(buf, where);
+        return buf.toString();
+    }
+
+    public String deleteWhere(Where where){
+        StringBuilder buf = new StringBuilder();
+        buf.append("delete from ");
+        buf.append(table);
+        buf.append(" a");
+        appendWhere(buf, where);
+        return buf.toString();
+    }
+
+    private void appendWhere(StringBuilder buf, Where where){
+        String whereClause = where.render();
+        if ( whereClause.length() > 0 ) {
+            buf.append(" where ");
+            buf.append(whereClause);
+        }
+    }
+
+    private String buildInsert(){
         StringBuilder bldr = new StringBuilder();
         bldr.append("insert into ");
         bldr.append(table);
@@ -1,6 +1,7 @@
 package org.hrorm;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -44,7 +45,26 @@ public class Order {
     }
 
     /**
-     * Generates a SQL snippet for appending to a query.
+     * The names of the columns to order by, in order of precedence.
+     *
+     * @return the column names
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(columnNames);
+    }
+
+    /**
+     * Whether values are ordered in an increasing direction.
+     *
+     * @return true if ascending, false if descending
+     */
+    public boolean isAscending() {
+        return direction == Direction.ASC;
+    }
+
+    /**
+     * Generates a SQL snippet for appending to a query. The direction
+     * applies to each of the columns.
      *
      * @return the SQL fragment
      */
@@ -54,12 +74,12 @@ public class Order {
         for(int idx=0; idx<columnNames.size() ; idx++ ){
             String name = columnNames.get(idx);
             buf.append(name);
+            buf.append(" ");
+            buf.append(direction);
             if( idx < columnNames.size() - 1){
                 buf.append(", ");
             }
         }
-        buf.append(" ");
-        buf.append(direction);
         return buf.toString();
     }
 
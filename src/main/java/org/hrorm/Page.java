@@ -0,0 +1,49 @@
+package org.hrorm;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of the results of an ordered select, and the
+ * position at which the following page begins.
+ *
+ * @param <ENTITY> The type of the entities selected.
+ */
+public class Page<ENTITY> {
+
+    private final List<ENTITY> items;
+    private final Cursor<ENTITY> next;
+
+    Page(List<ENTITY> items, Cursor<ENTITY> next){
+        this.items = Collections.unmodifiableList(items);
+        this.next = next;
+    }
+
+    /**
+     * The entities on this page.
+     *
+     * @return the entities, in order
+     */
+    public List<ENTITY> getItems() {
+        return items;
+    }
+
+    /**
+     * Whether there are more entities after this page.
+     *
+     * @return true if there is another page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * The position at which the next page begins, to be passed to
+     * <code>selectPage</code>.
+     *
+     * @return the cursor, or null if this is the last page
+     */
+    public Cursor<ENTITY> getNext() {
+        return next;
+    }
+}
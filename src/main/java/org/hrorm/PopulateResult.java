@@ -1,6 +1,5 @@
 package org.hrorm;
 
-import java.sql.Connection;
 import java.util.function.Consumer;
 
 /**
@@ -17,24 +16,24 @@ public class PopulateResult {
     public static final PopulateResult ParentColumn = new PopulateResult("Parent Column");
 
     private final String code;
-    private final Consumer<Connection> connectionUser;
+    private final Consumer<StatementCache> statementCacheUser;
 
     private PopulateResult(String code){
         this.code = code;
-        this.connectionUser = con -> {};
+        this.statementCacheUser = cache -> {};
     }
 
-    private PopulateResult(Consumer<Connection> connectionUser){
-        this.connectionUser = connectionUser;
+    private PopulateResult(Consumer<StatementCache> statementCacheUser){
+        this.statementCacheUser = statementCacheUser;
         this.code = "Join Column";
     }
 
-    public static PopulateResult fromJoinColumn(Consumer<Connection> connectionUser){
-        return new PopulateResult(connectionUser);
+    public static PopulateResult fromJoinColumn(Consumer<StatementCache> statementCacheUser){
+        return new PopulateResult(statementCacheUser);
     }
 
-    public void populateChildren(Connection connection){
-        this.connectionUser.accept(connection);
+    public void populateChildren(StatementCache statementCache){
+        this.statementCacheUser.accept(statementCache);
     }
 
     @Override
@@ -5,6 +5,15 @@ package org.hrorm;
  *
  * <p>
  *
+ * The first prefixes are the letters <code>a</code> through <code>z</code>.
+ * After those, the letters are repeated followed by a number, e.g.
+ * <code>a1</code> through <code>z1</code>, then <code>a2</code>, and so on,
+ * so there is no limit on the number of tables that can be joined.
+ * Since column names cannot start with a digit, a prefix followed by
+ * a column name is always distinct from any other such label.
+ *
+ * <p>
+ *
  *  Most users of hrorm will have no need to directly use this.
  */
 public class Prefixer {
@@ -17,6 +26,12 @@ public class Prefixer {
     private int index = 0;
 
     public String nextPrefix(){
-        return prefixes[index++];
+        String letter = prefixes[index % prefixes.length];
+        int round = index / prefixes.length;
+        index++;
+        if ( round == 0 ){
+            return letter;
+        }
+        return letter + round;
     }
 }
@@ -1,5 +1,9 @@
 package org.hrorm;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 /**
  * Representation of the column that holds the primary key for the entity.
  *
@@ -24,6 +28,17 @@ public interface PrimaryKey<ENTITY, BUILDER> extends Column<ENTITY, BUILDER> {
 
     Long getKey(ENTITY item);
 
+    /**
+     * Read the key from the current row of a result set, by its position
+     * in the select list if that is known.
+     *
+     * @param resultSet The result set being read
+     * @param positions The positions of the columns in the select list
+     * @return the key, or zero if it is null
+     * @throws SQLException allowed for <code>ResultSet</code> operations
+     */
+    long readKey(ResultSet resultSet, SelectPositions positions) throws SQLException;
+
     /**
      * The name of the database sequence that is used to populate this key
      *
@@ -31,4 +46,27 @@ public interface PrimaryKey<ENTITY, BUILDER> extends Column<ENTITY, BUILDER> {
      */
     String getSequenceName();
 
+    /**
+     * Issue a new key for a record about to be inserted.
+     *
+     * @param connection the connection to use if the sequence must be read
+     * @return the new key
+     */
+    long nextKey(Connection connection);
+
+    /**
+     * The number of keys reserved by each read of the sequence.
+     *
+     * @return the block size
+     */
+    int getSequenceBlockSize();
+
+    /**
+     * Sets the number of keys reserved by each read of the sequence.
+     * See {@link SequenceAllocator}.
+     *
+     * @param blockSize the block size
+     */
+    void setSequenceBlockSize(int blockSize);
+
 }
@@ -0,0 +1,183 @@
+package org.hrorm;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * An implementation of the <code>Column</code> interface for data elements
+ * of primitive numeric types. Values are moved between the entity and JDBC
+ * without being boxed.
+ *
+ * <p>
+ *     Primitive columns cannot hold null values. A null in the database is
+ *     read as zero, as the JDBC getters for primitive types do.
+ * </p>
+ *
+ * <p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ *
+ * @param <ENTITY> The type of the entity.
+ * @param <BUILDER> The class that is used to build new entity instances.
+ */
+public class PrimitiveColumn<ENTITY, BUILDER> implements Column<ENTITY, BUILDER> {
+
+    private interface Access<ENTITY, BUILDER> {
+        void set(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException;
+        void read(BUILDER builder, ResultSet resultSet, int index) throws SQLException;
+        void read(BUILDER builder, ResultSet resultSet, String label) throws SQLException;
+    }
+
+    private final String name;
+    private final String prefix;
+    private final String label;
+    private final Access<ENTITY, BUILDER> access;
+    private final Set<Integer> supportedTypes;
+
+    private String sqlTypeName;
+
+    private PrimitiveColumn(String name,
+                            String prefix,
+                            Access<ENTITY, BUILDER> access,
+                            String sqlTypeName,
+                            Set<Integer> supportedTypes){
+        this.name = name;
+        this.prefix = prefix;
+        this.label = prefix + name;
+        this.access = access;
+        this.sqlTypeName = sqlTypeName;
+        this.supportedTypes = supportedTypes;
+    }
+
+    public static <ENTITY, BUILDER> PrimitiveColumn<ENTITY, BUILDER> longColumn(
+            String name, String prefix, ToLongFunction<ENTITY> getter, ObjLongConsumer<BUILDER> setter){
+        Access<ENTITY, BUILDER> access = new Access<ENTITY, BUILDER>() {
+            @Override
+            public void set(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
+                preparedStatement.setLong(index, getter.applyAsLong(item));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, int index) throws SQLException {
+                setter.accept(builder, resultSet.getLong(index));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, String label) throws SQLException {
+                setter.accept(builder, resultSet.getLong(label));
+            }
+        };
+        return new PrimitiveColumn<>(name, prefix, access, GenericColumn.LONG.getSqlTypeName(), ColumnTypes.IntegerTypes);
+    }
+
+    public static <ENTITY, BUILDER> PrimitiveColumn<ENTITY, BUILDER> intColumn(
+            String name, String prefix, ToIntFunction<ENTITY> getter, ObjIntConsumer<BUILDER> setter){
+        Access<ENTITY, BUILDER> access = new Access<ENTITY, BUILDER>() {
+            @Override
+            public void set(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
+                preparedStatement.setInt(index, getter.applyAsInt(item));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, int index) throws SQLException {
+                setter.accept(builder, resultSet.getInt(index));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, String label) throws SQLException {
+                setter.accept(builder, resultSet.getInt(label));
+            }
+        };
+        return new PrimitiveColumn<>(name, prefix, access, GenericColumn.INTEGER.getSqlTypeName(), ColumnTypes.IntegerTypes);
+    }
+
+    public static <ENTITY, BUILDER> PrimitiveColumn<ENTITY, BUILDER> doubleColumn(
+            String name, String prefix, ToDoubleFunction<ENTITY> getter, ObjDoubleConsumer<BUILDER> setter){
+        Access<ENTITY, BUILDER> access = new Access<ENTITY, BUILDER>() {
+            @Override
+            public void set(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
+                preparedStatement.setDouble(index, getter.applyAsDouble(item));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, int index) throws SQLException {
+                setter.accept(builder, resultSet.getDouble(index));
+            }
+
+            @Override
+            public void read(BUILDER builder, ResultSet resultSet, String label) throws SQLException {
+                setter.accept(builder, resultSet.getDouble(label));
+            }
+        };
+        return new PrimitiveColumn<>(name, prefix, access, GenericColumn.DOUBLE.getSqlTypeName(), ColumnTypes.DecimalTypes);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public void setValue(ENTITY item, int index, PreparedStatement preparedStatement) throws SQLException {
+        access.set(item, index, preparedStatement);
+    }
+
+    @Override
+    public PopulateResult populate(BUILDER builder, ResultSet resultSet) throws SQLException {
+        return populate(builder, resultSet, SelectPositions.none(), JoinedEntities.unshared());
+    }
+
+    @Override
+    public PopulateResult populate(BUILDER builder, ResultSet resultSet, SelectPositions positions, JoinedEntities joinedEntities) throws SQLException {
+        int index = positions.get(this);
+        if ( index > 0 ){
+            access.read(builder, resultSet, index);
+        } else {
+            access.read(builder, resultSet, label);
+        }
+        return PopulateResult.Ignore;
+    }
+
+    @Override
+    public void notNull() {
+        // primitive values are never null
+    }
+
+    @Override
+    public boolean isNullable() {
+        return false;
+    }
+
+    @Override
+    public Set<Integer> supportedTypes() {
+        return supportedTypes;
+    }
+
+    @Override
+    public String getSqlTypeName() {
+        return sqlTypeName;
+    }
+
+    @Override
+    public void setSqlTypeName(String sqlTypeName) {
+        this.sqlTypeName = sqlTypeName;
+    }
+
+    @Override
+    public Column<ENTITY, BUILDER> withPrefix(String newPrefix, Prefixer prefixer) {
+        return new PrimitiveColumn<>(name, newPrefix, access, sqlTypeName, supportedTypes);
+    }
+}
@@ -12,6 +12,11 @@ import java.util.stream.Collectors;
  *
  * <p>
  *
+ * The columns of a relative descriptor never change, so its lists of
+ * columns are built once, rather than each time a joined record is read.
+ *
+ * <p>
+ *
  *  Most users of hrorm will have no need to directly use this.
  *
  * @param <ENTITY> The type represented by this descriptor
@@ -24,6 +29,9 @@ public class RelativeDaoDescriptor<ENTITY, PARENT, ENTITYBUILDER> implements Dao
     private final Supplier<ENTITYBUILDER> supplier;
 
     private final ColumnCollection<ENTITY, ENTITYBUILDER> columnCollection;
+    private final List<Column<ENTITY, ENTITYBUILDER>> nonJoinColumns;
+    private final List<JoinColumn<ENTITY, ?, ENTITYBUILDER, ?>> joinColumns;
+    private final List<Column<ENTITY, ENTITYBUILDER>> allColumns;
     private final List<ChildrenDescriptor<ENTITY,?, ENTITYBUILDER,?>> childrenDescriptors;
     private final Function<ENTITYBUILDER, ENTITY> buildFunction;
 
@@ -34,13 +42,16 @@ public class RelativeDaoDescriptor<ENTITY, PARENT, ENTITYBUILDER> implements Dao
         this.buildFunction = originalDaoDescriptor.buildFunction();
 
         List<Column<ENTITY, ENTITYBUILDER>> dataColumns = originalDaoDescriptor.dataColumns().stream().map(c -> c.withPrefix(newPrefix, prefixer)).collect(Collectors.toList());
-        List<JoinColumn<ENTITY,?,ENTITYBUILDER,?>> joinColumns = resetColumnPrefixes(prefixer, newPrefix, originalDaoDescriptor.joinColumns());
+        List<JoinColumn<ENTITY,?,ENTITYBUILDER,?>> resetJoinColumns = resetColumnPrefixes(prefixer, newPrefix, originalDaoDescriptor.joinColumns());
         PrimaryKey<ENTITY, ENTITYBUILDER> primaryKey = (PrimaryKey<ENTITY, ENTITYBUILDER>) originalDaoDescriptor.primaryKey().withPrefix(newPrefix, prefixer);
         ParentColumn<ENTITY, PARENT, ENTITYBUILDER, ?> parentColumn = null;
         if( originalDaoDescriptor.hasParent()) {
             parentColumn = (ParentColumn<ENTITY, PARENT, ENTITYBUILDER, ?>) originalDaoDescriptor.parentColumn().withPrefix(newPrefix, prefixer);
         }
-        this.columnCollection = new ColumnCollection<ENTITY, ENTITYBUILDER>(primaryKey, parentColumn, dataColumns, joinColumns);
+        this.columnCollection = new ColumnCollection<ENTITY, ENTITYBUILDER>(primaryKey, parentColumn, dataColumns, resetJoinColumns);
+        this.nonJoinColumns = columnCollection.nonJoinColumns();
+        this.joinColumns = columnCollection.getJoinColumns();
+        this.allColumns = columnCollection.allColumns();
     }
 
     private List<JoinColumn<ENTITY,?, ENTITYBUILDER,?>> resetColumnPrefixes(Prefixer prefixer,
@@ -69,6 +80,21 @@ public class RelativeDaoDescriptor<ENTITY, PARENT, ENTITYBUILDER> implements Dao
         return columnCollection;
     }
 
+    @Override
+    public List<Column<ENTITY, ENTITYBUILDER>> nonJoinColumns() {
+        return nonJoinColumns;
+    }
+
+    @Override
+    public List<JoinColumn<ENTITY, ?, ENTITYBUILDER, ?>> joinColumns() {
+        return joinColumns;
+    }
+
+    @Override
+    public List<Column<ENTITY, ENTITYBUILDER>> allColumns() {
+        return allColumns;
+    }
+
     @Override
     public List<ChildrenDescriptor<ENTITY, ?, ENTITYBUILDER, ?>> childrenDescriptors() {
         return childrenDescriptors;
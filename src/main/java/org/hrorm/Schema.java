@@ -189,12 +189,16 @@ public class Schema {
      */
     public List<String> sequences(){
         return descriptors.stream()
-                .map(d -> createSequenceSql(d.primaryKey().getSequenceName()))
+                .map(d -> createSequenceSql(d.primaryKey()))
                 .collect(Collectors.toList());
     }
 
-    private String createSequenceSql(String sequenceName){
-        return "create sequence " + sequenceName + ";";
+    private String createSequenceSql(PrimaryKey<?,?> primaryKey){
+        if( primaryKey.getSequenceBlockSize() > 1 ){
+            return "create sequence " + primaryKey.getSequenceName()
+                    + " increment by " + primaryKey.getSequenceBlockSize() + ";";
+        }
+        return "create sequence " + primaryKey.getSequenceName() + ";";
     }
 
     /**
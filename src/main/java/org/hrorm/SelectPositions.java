@@ -0,0 +1,60 @@
+package org.hrorm;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The one-based positions of the columns in the select list generated
+ * by a {@link KeylessSqlBuilder}. Hrorm generates the select list itself,
+ * so the position of each column is known when the SQL is built, and values
+ * can be read from a <code>ResultSet</code> by index instead of by label.
+ *
+ * <p>
+ *     Columns that have no known position are read by label.
+ * </p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ */
+public class SelectPositions {
+
+    private static final SelectPositions NONE = new SelectPositions(Collections.emptyList());
+
+    private final Map<Column<?, ?>, Integer> positions;
+
+    /**
+     * Create an instance for the passed columns, which must be listed
+     * in the order they appear in the select list.
+     *
+     * @param columns The columns of the select list
+     */
+    public SelectPositions(List<? extends Column<?, ?>> columns){
+        Map<Column<?, ?>, Integer> map = new IdentityHashMap<>();
+        int position = 1;
+        for(Column<?, ?> column : columns){
+            map.put(column, position++);
+        }
+        this.positions = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * An instance that knows no positions, so every column is read by label.
+     *
+     * @return the instance
+     */
+    public static SelectPositions none(){
+        return NONE;
+    }
+
+    /**
+     * The position of a column in the select list.
+     *
+     * @param column The column
+     * @return the one-based position of the column, or zero if it is not known
+     */
+    public int get(Column<?, ?> column){
+        Integer position = positions.get(column);
+        return position == null ? 0 : position;
+    }
+}
@@ -0,0 +1,63 @@
+package org.hrorm;
+
+import java.sql.Connection;
+
+/**
+ * Issues primary key values from a database sequence.
+ *
+ * <p>
+ *     With a block size of one, every key is read from the sequence
+ *     individually. With a larger block size, the sequence must be
+ *     defined to increment by the block size
+ *     (e.g. <code>create sequence foo_seq increment by 50</code>).
+ *     Each value read from the sequence then reserves that value and the
+ *     ones following it, up to the block size, and those keys are issued
+ *     without going back to the database.
+ * </p>
+ *
+ * <p>
+ *     Instances are safe to share between threads.
+ * </p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ */
+public class SequenceAllocator {
+
+    private final String sequenceName;
+    private final int blockSize;
+
+    private long nextValue = 0;
+    private long lastValue = -1;
+
+    public SequenceAllocator(String sequenceName, int blockSize){
+        if( blockSize < 1 ){
+            throw new HrormException("Sequence block size must be at least one, not " + blockSize);
+        }
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Issue the next available key, reading a new block from the
+     * sequence if the current one is used up.
+     *
+     * @param connection The connection to use if the sequence must be read
+     * @return A new key
+     */
+    public synchronized long nextValue(Connection connection){
+        if( nextValue > lastValue ){
+            long blockStart = DaoHelper.getNextSequenceValue(connection, sequenceName);
+            nextValue = blockStart;
+            lastValue = blockStart + blockSize - 1;
+        }
+        return nextValue++;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
@@ -1,5 +1,8 @@
 package org.hrorm;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,9 +21,31 @@ public class SqlBuilder<ENTITY> implements Queries {
     private final KeylessSqlBuilder<ENTITY> keylessSqlBuilder;
     private final PrimaryKey<ENTITY,?> primaryKey;
 
+    private final String selectById;
+    private final String update;
+    private final String delete;
+
     public SqlBuilder(DaoDescriptor<ENTITY,?> daoDescriptor){
-        this.keylessSqlBuilder = new KeylessSqlBuilder<>(daoDescriptor);
+        this(daoDescriptor, new KeylessSqlBuilder<>(daoDescriptor));
+    }
+
+    /**
+     * Create a builder whose selects fetch only the passed join paths.
+     *
+     * @param daoDescriptor The description of the entity
+     * @param joinPaths The join paths to fetch
+     * @see KeylessSqlBuilder#KeylessSqlBuilder(KeylessDaoDescriptor, Collection)
+     */
+    public SqlBuilder(DaoDescriptor<ENTITY,?> daoDescriptor, Collection<String> joinPaths){
+        this(daoDescriptor, new KeylessSqlBuilder<>(daoDescriptor, joinPaths));
+    }
+
+    private SqlBuilder(DaoDescriptor<ENTITY,?> daoDescriptor, KeylessSqlBuilder<ENTITY> keylessSqlBuilder){
+        this.keylessSqlBuilder = keylessSqlBuilder;
         this.primaryKey = daoDescriptor.primaryKey();
+        this.selectById = keylessSqlBuilder.select() + " and a." + primaryKey.getName() + " = ?";
+        this.update = buildUpdate();
+        this.delete = buildDelete();
     }
 
     public String select(){
@@ -31,10 +56,108 @@ public class SqlBuilder<ENTITY> implements Queries {
         return keylessSqlBuilder.select(where);
     }
 
+    public SelectPositions selectPositions(){
+        return keylessSqlBuilder.selectPositions();
+    }
+
+    public String select(Where where, Order order){
+        return keylessSqlBuilder.select(where, order);
+    }
+
     public String selectByColumns(ColumnSelection<ENTITY,?> columnSelection){
         return keylessSqlBuilder.selectByColumns(columnSelection);
     }
 
+    /**
+     * A select of the first records in the passed order.
+     *
+     * @param where The predicates of the select
+     * @param order The order, which must identify each record uniquely
+     * @return the SQL
+     */
+    public String selectFirst(Where where, Order order){
+        return keylessSqlBuilder.select(where) + orderBy(order);
+    }
+
+    /**
+     * A select of the records that come after a given record in the passed
+     * order. For columns c1, c2 ... cn in ascending order, the records
+     * wanted are those where
+     * <code>(c1 &gt; ?) or (c1 = ? and c2 &gt; ?) or ... (c1 = ? and ... cn &gt; ?)</code>.
+     * The parameters of the where clause come first, followed by those of
+     * this comparison, in the order written.
+     *
+     * @param where The predicates of the select
+     * @param order The order, which must identify each record uniquely
+     * @return the SQL
+     */
+    public String selectAfter(Where where, Order order){
+        String comparison = order.isAscending() ? " > ?" : " < ?";
+        List<String> columnNames = order.getColumnNames();
+        List<String> alternatives = new ArrayList<>();
+        for( int idx=0; idx<columnNames.size(); idx++ ){
+            StringBuilder buf = new StringBuilder("(");
+            for( int equalIdx=0; equalIdx<idx; equalIdx++ ){
+                buf.append("a.");
+                buf.append(columnNames.get(equalIdx));
+                buf.append(" = ? and ");
+            }
+            buf.append("a.");
+            buf.append(columnNames.get(idx));
+            buf.append(comparison);
+            buf.append(")");
+            alternatives.add(buf.toString());
+        }
+        StringBuilder sql = new StringBuilder(keylessSqlBuilder.select(where));
+        sql.append(" AND (");
+        sql.append(String.join(" or ", alternatives));
+        sql.append(")");
+        sql.append(orderBy(order));
+        return sql.toString();
+    }
+
+    /**
+     * The order of a page, which applies the direction to every column,
+     * so that it agrees with the comparison in {@link #selectAfter(Where, Order)}.
+     */
+    private String orderBy(Order order){
+        String direction = order.isAscending() ? " ASC" : " DESC";
+        List<String> terms = new ArrayList<>();
+        for(String columnName : order.getColumnNames()){
+            terms.add("a." + columnName + direction);
+        }
+        return " ORDER BY " + String.join(", ", terms);
+    }
+
+    public String selectById(){
+        return selectById;
+    }
+
+    public String selectByIds(int idCount){
+        StringBuilder buf = new StringBuilder(keylessSqlBuilder.select());
+        buf.append(" and a.");
+        buf.append(primaryKey.getName());
+        buf.append(" in (");
+        buf.append(String.join(", ", Collections.nCopies(idCount, "?")));
+        buf.append(")");
+        return buf.toString();
+    }
+
+    public String selectIds(Where where){
+        StringBuilder buf = new StringBuilder();
+        buf.append("select a.");
+        buf.append(primaryKey.getName());
+        buf.append(" from ");
+        buf.append(keylessSqlBuilder.getTable());
+        buf.append(" a");
+        String whereClause = where.render();
+        if ( whereClause.length() > 0 ) {
+            buf.append(" where ");
+            buf.append(whereClause);
+        }
+        return buf.toString();
+    }
+
     public String selectChildIds(String parentColumn){
 
         StringBuilder buf = new StringBuilder();
@@ -50,7 +173,28 @@ public class SqlBuilder<ENTITY> implements Queries {
         return buf.toString();
     }
 
+    public String selectChildIds(String parentColumn, int parentCount){
+
+        StringBuilder buf = new StringBuilder();
+
+        buf.append("select ");
+        buf.append(primaryKey.getName());
+        buf.append(" from ");
+        buf.append(keylessSqlBuilder.getTable());
+        buf.append(" where ");
+        buf.append(parentColumn);
+        buf.append(" in (");
+        buf.append(String.join(", ", Collections.nCopies(parentCount, "?")));
+        buf.append(")");
+
+        return buf.toString();
+    }
+
     public String update(){
+        return update;
+    }
+
+    private String buildUpdate(){
         StringBuilder sql = new StringBuilder("update ");
         sql.append(keylessSqlBuilder.getTable());
         sql.append(" set ");
@@ -70,11 +214,54 @@ public class SqlBuilder<ENTITY> implements Queries {
         return sql.toString();
     }
 
+    public String updateColumns(ColumnSelection<ENTITY,?> columnSelection){
+        StringBuilder sql = new StringBuilder("update ");
+        sql.append(keylessSqlBuilder.getTable());
+        sql.append(" set ");
+        sql.append(columnSelection.setClause());
+        sql.append(" where ");
+        sql.append(primaryKey.getName());
+        sql.append(" = ?");
+        return sql.toString();
+    }
+
     public String insert(){
         return keylessSqlBuilder.insert();
     }
 
     public String delete(){
+        return delete;
+    }
+
+    public String deleteByIds(int idCount){
+        StringBuilder buf = new StringBuilder();
+
+        buf.append("delete from ");
+        buf.append(keylessSqlBuilder.getTable());
+        buf.append(" where ");
+        buf.append(primaryKey.getName());
+        buf.append(" in (");
+        buf.append(String.join(", ", Collections.nCopies(idCount, "?")));
+        buf.append(")");
+
+        return buf.toString();
+    }
+
+    public String deleteByParentIds(String parentColumn, int parentCount){
+        StringBuilder buf = new StringBuilder();
+
+        buf.append("delete from ");
+        buf.append(keylessSqlBuilder.getTable());
+        buf.append(" where ");
+        buf.append(parentColumn);
+        buf.append(" in (");
+        buf.append(String.join(", ", Collections.nCopies(parentCount, "?")));
+        buf.append(")");
+
+        return buf.toString();
+    }
+
+    private String buildDelete(){
         StringBuilder buf = new StringBuilder();
 
         buf.append("delete from ");
@@ -6,7 +6,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -27,55 +29,28 @@ public class SqlRunner<ENTITY, BUILDER> {
 
     private static final Logger logger = Logger.getLogger("org.hrorm");
 
-    private final Connection connection;
+    private final StatementCache statementCache;
     private final List<Column<ENTITY, BUILDER>> allColumns;
+    private final StatementOptions statementOptions;
 
     public SqlRunner(Connection connection, KeylessDaoDescriptor<ENTITY, BUILDER> daoDescriptor) {
-        this.connection = connection;
-        this.allColumns = daoDescriptor.allColumns();
+        this(StatementCache.uncached(connection), daoDescriptor);
     }
 
-    public List<BUILDER> select(String sql, Supplier<BUILDER> supplier, List<ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors){
-        return selectByColumns(sql, supplier, ColumnSelection.empty(), childrenDescriptors, null);
-    }
-
-    public List<BUILDER> selectByColumns(String sql,
-                                         Supplier<BUILDER> supplier,
-                                         ColumnSelection<ENTITY,BUILDER> columnSelection,
-                                         List<? extends ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
-                                         ENTITY item){
-        BiFunction<List<BUILDER>, BUILDER, List<BUILDER>> accumulator =
-                (list, b) -> { list.add(b); return list; };
-        StatementPopulator populator = columnSelection.buildPopulator(item);
-        return foldingSelect(
-                sql,
-                populator,
-                supplier,
-                childrenDescriptors,
-                b -> b,
-                new ArrayList<>(),
-                accumulator
-        );
-    }
-
-    public List<BUILDER> selectWhere(String sql,
-                                     Supplier<BUILDER> supplier,
-                                     List<? extends ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
-                                     Where where){
-        BiFunction<List<BUILDER>, BUILDER, List<BUILDER>> accumulator =
-                (list, b) -> { list.add(b); return list; };
-        return foldingSelect(
-                sql,
-                where,
-                supplier,
-                childrenDescriptors,
-                b -> b,
-                new ArrayList<>(),
-                accumulator
-        );
+    public SqlRunner(StatementCache statementCache, KeylessDaoDescriptor<ENTITY, BUILDER> daoDescriptor) {
+        this(statementCache, daoDescriptor, daoDescriptor.statementOptions());
+    }
+
+    public SqlRunner(StatementCache statementCache,
+                     KeylessDaoDescriptor<ENTITY, BUILDER> daoDescriptor,
+                     StatementOptions statementOptions) {
+        this.statementCache = statementCache;
+        this.allColumns = daoDescriptor.allColumns();
+        this.statementOptions = statementOptions;
     }
 
     public <T,X> T foldingSelect(String sql,
+                               SelectPositions positions,
                                StatementPopulator statementPopulator,
                                Supplier<BUILDER> supplier,
                                List<? extends ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
@@ -86,24 +61,26 @@ public class SqlRunner<ENTITY, BUILDER> {
         ResultSet resultSet = null;
         PreparedStatement statement = null;
         try {
-            statement = connection.prepareStatement(sql);
+            statement = statementCache.prepare(sql);
+            applySelectOptions(statement, true);
             statementPopulator.populate(statement);
 
             logger.info(sql);
             resultSet = statement.executeQuery();
 
             T result = identity;
+            List<BUILDER> batch = new ArrayList<>();
+            JoinedEntities joinedEntities = newJoinedEntities();
 
             while (resultSet.next()) {
-                BUILDER bldr = populate(resultSet, supplier);
-                for(ChildrenDescriptor<ENTITY,?, BUILDER,?> descriptor : childrenDescriptors){
-                    descriptor.populateChildren(connection, bldr);
+                BUILDER bldr = populate(resultSet, positions, supplier, joinedEntities);
+                batch.add(bldr);
+                if( batch.size() >= ChildrenDescriptor.BATCH_SIZE ){
+                    result = foldBatch(batch, childrenDescriptors, buildFunction, result, accumulator);
                 }
-                X item = buildFunction.apply(bldr);
-                result = accumulator.apply(result, item);
             }
 
-            return result;
+            return foldBatch(batch, childrenDescriptors, buildFunction, result, accumulator);
 
         } catch (SQLException ex){
             throw new HrormException(ex, sql);
@@ -113,7 +90,76 @@ public class SqlRunner<ENTITY, BUILDER> {
                     resultSet.close();
                 }
                 if (statement != null) {
-                    statement.close();
+                    statementCache.release(sql, statement);
+                }
+            } catch (SQLException se){
+                throw new HrormException(se);
+            }
+        }
+    }
+
+    private <T,X> T foldBatch(List<BUILDER> batch,
+                              List<? extends ChildrenDescriptor<ENTITY,?, BUILDER,?>> childrenDescriptors,
+                              Function<BUILDER, X> buildFunction,
+                              T result,
+                              BiFunction<T,X,T> accumulator){
+        for(ChildrenDescriptor<ENTITY,?, BUILDER,?> descriptor : childrenDescriptors){
+            descriptor.populateChildren(statementCache, batch);
+        }
+        for(BUILDER bldr : batch){
+            X item = buildFunction.apply(bldr);
+            result = accumulator.apply(result, item);
+        }
+        batch.clear();
+        return result;
+    }
+
+    /**
+     * Selects child records and groups them by the id of the parent
+     * record they belong to.
+     *
+     * @param sql The select to run
+     * @param positions The positions of the columns in the select list
+     * @param supplier The source of new builder instances
+     * @param where The predicates, which are bound to the statement
+     * @param parentIdIndex The position of the parent id column in the select list
+     * @return The builders for the records found, keyed by parent id
+     */
+    public Map<Long, List<BUILDER>> selectByParentIds(String sql,
+                                                      SelectPositions positions,
+                                                      Supplier<BUILDER> supplier,
+                                                      Where where,
+                                                      int parentIdIndex){
+        ResultSet resultSet = null;
+        PreparedStatement statement = null;
+        try {
+            statement = statementCache.prepare(sql);
+            applySelectOptions(statement, false);
+            where.populate(statement);
+
+            logger.info(sql);
+            resultSet = statement.executeQuery();
+
+            Map<Long, List<BUILDER>> buildersByParentId = new HashMap<>();
+            JoinedEntities joinedEntities = newJoinedEntities();
+
+            while (resultSet.next()) {
+                BUILDER bldr = populate(resultSet, positions, supplier, joinedEntities);
+                Long parentId = resultSet.getLong(parentIdIndex);
+                buildersByParentId.computeIfAbsent(parentId, id -> new ArrayList<>()).add(bldr);
+            }
+
+            return buildersByParentId;
+
+        } catch (SQLException ex){
+            throw new HrormException(ex, sql);
+        } finally {
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                if (statement != null) {
+                    statementCache.release(sql, statement);
                 }
             } catch (SQLException se){
                 throw new HrormException(se);
@@ -127,7 +173,8 @@ public class SqlRunner<ENTITY, BUILDER> {
         ResultSet resultSet = null;
         PreparedStatement statement = null;
         try {
-            statement = connection.prepareStatement(sql);
+            statement = statementCache.prepare(sql);
+            statement.setQueryTimeout(statementOptions.getQueryTimeout());
             where.populate(statement);
 
             logger.info(sql);
@@ -146,7 +193,7 @@ public class SqlRunner<ENTITY, BUILDER> {
                     resultSet.close();
                 }
                 if (statement != null) {
-                    statement.close();
+                    statementCache.release(sql, statement);
                 }
             } catch (SQLException se){
                 throw new HrormException(se);
@@ -178,6 +225,59 @@ public class SqlRunner<ENTITY, BUILDER> {
         return runFunction(sql, where, reader);
     }
 
+    /**
+     * Runs an aggregation, reading the grouped values followed by
+     * the function values from each row.
+     *
+     * @param sql The select to run
+     * @param where The predicates, which are bound to the statement
+     * @param aggregation The aggregation the select was generated from
+     * @return One row of values for each row of the result
+     */
+    public List<AggregateRow> runFunctions(String sql, Where where, Aggregation aggregation) {
+        ResultSet resultSet = null;
+        PreparedStatement statement = null;
+        try {
+            statement = statementCache.prepare(sql);
+            applySelectOptions(statement, false);
+            where.populate(statement);
+
+            logger.info(sql);
+            resultSet = statement.executeQuery();
+
+            List<String> groupByColumnNames = aggregation.getGroupByColumnNames();
+            int groupCount = groupByColumnNames.size();
+            int functionCount = aggregation.getFunctions().size();
+            List<AggregateRow> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                List<Object> groupValues = new ArrayList<>(groupCount);
+                for( int idx=1; idx<=groupCount; idx++ ){
+                    groupValues.add(resultSet.getObject(idx));
+                }
+                List<BigDecimal> functionValues = new ArrayList<>(functionCount);
+                for( int idx=1; idx<=functionCount; idx++ ){
+                    functionValues.add(resultSet.getBigDecimal(groupCount + idx));
+                }
+                rows.add(new AggregateRow(groupByColumnNames, groupValues, functionValues));
+            }
+            return rows;
+
+        } catch (SQLException ex){
+            throw new HrormException(ex, sql);
+        } finally {
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                if (statement != null) {
+                    statementCache.release(sql, statement);
+                }
+            } catch (SQLException se){
+                throw new HrormException(se);
+            }
+        }
+    }
+
     public void insert(String sql, Envelope<ENTITY> envelope) {
         runInsertOrUpdate(sql, envelope, false);
     }
@@ -186,31 +286,49 @@ public class SqlRunner<ENTITY, BUILDER> {
         runInsertOrUpdate(sql, envelope, true);
     }
 
-    private void runInsertOrUpdate(String sql, Envelope<ENTITY> envelope, boolean isUpdate){
+    /**
+     * Run an update or delete whose parameters are all set by the passed populator.
+     *
+     * @param sql The update or delete statement
+     * @param statementPopulator Sets every parameter of the statement
+     * @return The number of rows changed
+     */
+    public int update(String sql, StatementPopulator statementPopulator) {
 
         PreparedStatement preparedStatement = null;
 
         try {
-            preparedStatement = connection.prepareStatement(sql);
-
-            int idx = 1;
-            for(Column<ENTITY, BUILDER> column : allColumns){
-                if( column.isPrimaryKey() ) {
-                    if ( ! isUpdate ) {
-                        preparedStatement.setLong(idx, envelope.getId());
-                        idx++;
-                    }
-                } else if ( column.isParentColumn() ){
-                    preparedStatement.setLong(idx, envelope.getParentId());
-                    idx++;
-                } else if ( ! column.isPrimaryKey()  ){
-                    column.setValue(envelope.getItem(), idx, preparedStatement);
-                    idx++;
+            preparedStatement = statementCache.prepare(sql);
+            preparedStatement.setQueryTimeout(statementOptions.getQueryTimeout());
+
+            statementPopulator.populate(preparedStatement);
+
+            logger.info(sql);
+            return preparedStatement.executeUpdate();
+
+        } catch (SQLException se){
+            throw new HrormException(se, sql);
+        } finally {
+            try {
+                if (preparedStatement != null) {
+                    statementCache.release(sql, preparedStatement);
                 }
+            } catch (SQLException se){
+                throw new HrormException(se);
             }
-            if( isUpdate ){
-                preparedStatement.setLong(idx, envelope.getId());
-            }
+        }
+
+    }
+
+    private void runInsertOrUpdate(String sql, Envelope<ENTITY> envelope, boolean isUpdate){
+
+        PreparedStatement preparedStatement = null;
+
+        try {
+            preparedStatement = statementCache.prepare(sql);
+            preparedStatement.setQueryTimeout(statementOptions.getQueryTimeout());
+
+            setValues(preparedStatement, envelope, isUpdate);
 
             logger.info(sql);
             preparedStatement.execute();
@@ -220,7 +338,7 @@ public class SqlRunner<ENTITY, BUILDER> {
         } finally {
             try {
                 if (preparedStatement != null) {
-                    preparedStatement.close();
+                    statementCache.release(sql, preparedStatement);
                 }
             } catch (SQLException se){
                 throw new HrormException(se);
@@ -229,13 +347,118 @@ public class SqlRunner<ENTITY, BUILDER> {
 
     }
 
-    private BUILDER populate(ResultSet resultSet, Supplier<BUILDER> supplier)
+    /**
+     * Insert many records using a single statement, sending them to the
+     * database in batches.
+     *
+     * @param sql The insert to run
+     * @param envelopes The records to insert
+     * @param batchSize The largest number of records sent in one batch
+     */
+    public void insertAll(String sql, List<Envelope<ENTITY>> envelopes, int batchSize) {
+        runBatchInsertOrUpdate(sql, envelopes, batchSize, false);
+    }
+
+    /**
+     * Update many records using a single statement, sending them to the
+     * database in batches.
+     *
+     * @param sql The update to run
+     * @param envelopes The records to update
+     * @param batchSize The largest number of records sent in one batch
+     */
+    public void updateAll(String sql, List<Envelope<ENTITY>> envelopes, int batchSize) {
+        runBatchInsertOrUpdate(sql, envelopes, batchSize, true);
+    }
+
+    private void runBatchInsertOrUpdate(String sql, List<Envelope<ENTITY>> envelopes, int batchSize, boolean isUpdate){
+
+        if( envelopes.isEmpty() ){
+            return;
+        }
+
+        PreparedStatement preparedStatement = null;
+
+        try {
+            preparedStatement = statementCache.prepare(sql);
+            preparedStatement.setQueryTimeout(statementOptions.getQueryTimeout());
+
+            logger.info(sql);
+            int batchCount = 0;
+            for(Envelope<ENTITY> envelope : envelopes){
+                setValues(preparedStatement, envelope, isUpdate);
+                preparedStatement.addBatch();
+                batchCount++;
+                if( batchCount >= batchSize ){
+                    preparedStatement.executeBatch();
+                    batchCount = 0;
+                }
+            }
+            if( batchCount > 0 ){
+                preparedStatement.executeBatch();
+            }
+
+        } catch (SQLException se){
+            throw new HrormException(se, sql);
+        } finally {
+            try {
+                if (preparedStatement != null) {
+                    statementCache.release(sql, preparedStatement);
+                }
+            } catch (SQLException se){
+                throw new HrormException(se);
+            }
+        }
+
+    }
+
+    private void setValues(PreparedStatement preparedStatement, Envelope<ENTITY> envelope, boolean isUpdate)
+            throws SQLException {
+        int idx = 1;
+        for(Column<ENTITY, BUILDER> column : allColumns){
+            if( column.isPrimaryKey() ) {
+                if ( ! isUpdate ) {
+                    preparedStatement.setLong(idx, envelope.getId());
+                    idx++;
+                }
+            } else if ( column.isParentColumn() ){
+                preparedStatement.setLong(idx, envelope.getParentId());
+                idx++;
+            } else if ( ! column.isPrimaryKey()  ){
+                column.setValue(envelope.getItem(), idx, preparedStatement);
+                idx++;
+            }
+        }
+        if( isUpdate ){
+            preparedStatement.setLong(idx, envelope.getId());
+        }
+    }
+
+    /**
+     * Apply the configured options to a select statement. These are always
+     * set, even when they are the defaults, since the statement may be
+     * cached and have been used with other options.
+     */
+    private void applySelectOptions(PreparedStatement statement, boolean limitRows) throws SQLException {
+        statement.setFetchSize(statementOptions.getFetchSize());
+        statement.setMaxRows(limitRows ? statementOptions.getMaxRows() : 0);
+        statement.setQueryTimeout(statementOptions.getQueryTimeout());
+    }
+
+    private JoinedEntities newJoinedEntities(){
+        return statementOptions.isSharedJoinedEntities() ? JoinedEntities.shared() : JoinedEntities.unshared();
+    }
+
+    private BUILDER populate(ResultSet resultSet,
+                             SelectPositions positions,
+                             Supplier<BUILDER> supplier,
+                             JoinedEntities joinedEntities)
             throws SQLException {
         BUILDER item = supplier.get();
 
         for (Column<ENTITY, BUILDER> column: allColumns) {
-            PopulateResult populateResult = column.populate(item, resultSet);
-            populateResult.populateChildren(connection);
+            PopulateResult populateResult = column.populate(item, resultSet, positions, joinedEntities);
+            populateResult.populateChildren(statementCache);
         }
 
         return item;
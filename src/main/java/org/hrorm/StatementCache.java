@@ -0,0 +1,144 @@
+package org.hrorm;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Supplies the <code>PreparedStatement</code>s used with a single
+ * <code>Connection</code>, optionally keeping them open for reuse.
+ *
+ * <p>
+ *     With a maximum size of zero, every statement is prepared when it is
+ *     needed and closed as soon as it is released. With a larger size,
+ *     released statements are kept open, keyed by their SQL, and handed out
+ *     again the next time the same SQL is run. When more statements than
+ *     the maximum size are cached, the least recently used one is closed.
+ *     A cached statement that is still in use (for example, by an outer
+ *     select whose <code>ResultSet</code> is still being read) is never
+ *     handed out twice; a fresh statement is prepared instead.
+ * </p>
+ *
+ * <p>
+ *     Like the <code>Connection</code> it wraps, an instance of this class
+ *     should not be shared between threads.
+ * </p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ */
+public class StatementCache {
+
+    private final Connection connection;
+    private final int maximumSize;
+
+    private final LinkedHashMap<String, PreparedStatement> statements;
+    private final Set<PreparedStatement> inUse = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public StatementCache(Connection connection, int maximumSize){
+        if( maximumSize < 0 ){
+            throw new HrormException("Statement cache size cannot be negative, not " + maximumSize);
+        }
+        this.connection = connection;
+        this.maximumSize = maximumSize;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if ( size() > StatementCache.this.maximumSize ){
+                    if ( ! inUse.contains(eldest.getValue()) ){
+                        close(eldest.getValue());
+                    }
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create an instance that does not cache: every statement is
+     * closed when it is released.
+     *
+     * @param connection The connection statements are prepared on
+     * @return the new instance
+     */
+    public static StatementCache uncached(Connection connection){
+        return new StatementCache(connection, 0);
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Provide a statement for the passed SQL. Each statement provided
+     * must be passed to {@link #release(String, PreparedStatement)} when
+     * it is no longer needed.
+     *
+     * @param sql The SQL of the statement
+     * @return A statement with no parameters set
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        if ( maximumSize == 0 ){
+            return connection.prepareStatement(sql);
+        }
+        PreparedStatement statement = statements.get(sql);
+        if ( statement == null || statement.isClosed() ){
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else if ( inUse.contains(statement) ){
+            return connection.prepareStatement(sql);
+        }
+        inUse.add(statement);
+        return statement;
+    }
+
+    /**
+     * Return a statement provided by {@link #prepare(String)}. Statements
+     * that are not cached are closed.
+     *
+     * @param sql The SQL the statement was prepared with
+     * @param statement The statement
+     * @throws SQLException if the statement cannot be reset or closed
+     */
+    public void release(String sql, PreparedStatement statement) throws SQLException {
+        if ( maximumSize > 0 && inUse.remove(statement) && statements.get(sql) == statement ){
+            statement.clearParameters();
+            statement.clearBatch();
+        } else {
+            statement.close();
+        }
+    }
+
+    /**
+     * Close all the cached statements. It is safe to call this after the
+     * underlying connection has been closed.
+     */
+    public void close(){
+        List<PreparedStatement> cached = new ArrayList<>(statements.values());
+        statements.clear();
+        inUse.clear();
+        for ( PreparedStatement statement : cached ){
+            close(statement);
+        }
+    }
+
+    private static void close(PreparedStatement statement){
+        try {
+            statement.close();
+        } catch (SQLException ex){
+            throw new HrormException(ex);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.hrorm;
+
+/**
+ * Settings that control how hrorm uses JDBC statements.
+ *
+ * <p>
+ *     Instances are immutable. Use the <code>with</code> methods to create
+ *     a copy with a changed setting.
+ * </p>
+ *
+ * Most users of hrorm will have no need to directly use this.
+ */
+public class StatementOptions {
+
+    /**
+     * The number of rows sent to the database in a single batch
+     * unless a different size is configured.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The options used when nothing else is configured.
+     */
+    public static final StatementOptions DEFAULT = new StatementOptions(DEFAULT_BATCH_SIZE, 0, 0, 0, 0, false);
+
+    private final int batchSize;
+    private final int statementCacheSize;
+    private final int fetchSize;
+    private final int maxRows;
+    private final int queryTimeout;
+    private final boolean sharedJoinedEntities;
+
+    private StatementOptions(int batchSize, int statementCacheSize, int fetchSize, int maxRows, int queryTimeout,
+                             boolean sharedJoinedEntities){
+        this.batchSize = batchSize;
+        this.statementCacheSize = statementCacheSize;
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
+        this.queryTimeout = queryTimeout;
+        this.sharedJoinedEntities = sharedJoinedEntities;
+    }
+
+    /**
+     * The largest number of rows that will be added to a
+     * <code>PreparedStatement</code> before the batch is executed.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Create a copy of these options with a new batch size.
+     *
+     * @param batchSize The number of rows to send to the database at once
+     * @return the new options
+     */
+    public StatementOptions withBatchSize(int batchSize){
+        if( batchSize < 1 ){
+            throw new HrormException("Batch size must be at least one, not " + batchSize);
+        }
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+
+    /**
+     * The largest number of prepared statements a <code>Dao</code> keeps
+     * open for reuse. Zero, the default, means statements are closed
+     * after each use.
+     *
+     * @return the statement cache size
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Create a copy of these options with a new statement cache size.
+     *
+     * @param statementCacheSize The number of statements to keep open, or zero
+     *                           to disable caching
+     * @return the new options
+     */
+    public StatementOptions withStatementCacheSize(int statementCacheSize){
+        if( statementCacheSize < 0 ){
+            throw new HrormException("Statement cache size cannot be negative, not " + statementCacheSize);
+        }
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+
+    /**
+     * The number of rows the JDBC driver is asked to fetch from the
+     * database at a time when reading the results of a select.
+     * Zero, the default, leaves the choice to the driver.
+     *
+     * @return the fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Create a copy of these options with a new fetch size.
+     *
+     * @param fetchSize The number of rows to fetch at a time, or zero
+     *                  to use the driver's default
+     * @return the new options
+     */
+    public StatementOptions withFetchSize(int fetchSize){
+        if( fetchSize < 0 ){
+            throw new HrormException("Fetch size cannot be negative, not " + fetchSize);
+        }
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+
+    /**
+     * The largest number of rows a select may return. Rows beyond the
+     * limit are silently dropped by the driver. Zero, the default, means
+     * there is no limit. The limit applies to the records selected, not
+     * to any of their children.
+     *
+     * @return the maximum number of rows
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Create a copy of these options with a new limit on the rows selected.
+     *
+     * @param maxRows The largest number of rows to return, or zero for no limit
+     * @return the new options
+     */
+    public StatementOptions withMaxRows(int maxRows){
+        if( maxRows < 0 ){
+            throw new HrormException("Max rows cannot be negative, not " + maxRows);
+        }
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+
+    /**
+     * The number of seconds the driver will wait for a statement to
+     * execute. Zero, the default, means there is no limit.
+     *
+     * @return the query timeout in seconds
+     */
+    public int getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    /**
+     * Create a copy of these options with a new query timeout.
+     *
+     * @param queryTimeout The number of seconds to wait, or zero for no limit
+     * @return the new options
+     */
+    public StatementOptions withQueryTimeout(int queryTimeout){
+        if( queryTimeout < 0 ){
+            throw new HrormException("Query timeout cannot be negative, not " + queryTimeout);
+        }
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+
+    /**
+     * Whether a select shares one instance of each joined entity between
+     * all the records it returns that join to it through the same join
+     * column. When false, the default,
+     * every record gets its own copy of each joined entity.
+     *
+     * @return true if joined entities are shared
+     */
+    public boolean isSharedJoinedEntities() {
+        return sharedJoinedEntities;
+    }
+
+    /**
+     * Create a copy of these options that does, or does not, share joined
+     * entities within a select.
+     *
+     * @param sharedJoinedEntities True to build each joined entity once per select
+     * @return the new options
+     */
+    public StatementOptions withSharedJoinedEntities(boolean sharedJoinedEntities){
+        return new StatementOptions(batchSize, statementCacheSize, fetchSize, maxRows, queryTimeout, sharedJoinedEntities);
+    }
+}
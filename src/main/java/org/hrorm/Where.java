@@ -590,10 +590,24 @@ public class Where implements StatementPopulator {
 
     @Override
     public void populate(PreparedStatement preparedStatement) throws SQLException {
-        int idx = 1;
+        populate(preparedStatement, 1);
+    }
+
+    /**
+     * Set the values of this where clause onto a statement whose
+     * parameters for this clause start at the passed index.
+     *
+     * @param preparedStatement The statement to populate
+     * @param firstIndex The index of the first parameter of this clause
+     * @return The index of the first parameter after this clause
+     * @throws SQLException if a value cannot be set
+     */
+    public int populate(PreparedStatement preparedStatement, int firstIndex) throws SQLException {
+        int idx = firstIndex;
         for(WherePredicate atom : this.tree.asList()){
             int cnt = atom.setValue(idx, preparedStatement);
             idx += cnt;
         }
+        return idx;
     }
 }
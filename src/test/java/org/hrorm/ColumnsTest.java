@@ -18,7 +18,12 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class ColumnsTest {
 
@@ -372,6 +377,286 @@ public class ColumnsTest {
         }
     }
 
+    @Test
+    public void testSelectManyAcrossChunks() throws SQLException {
+        int count = DaoImpl.MAXIMUM_SELECT_IDS * 2 + 3;
+        List<Long> ids = new ArrayList<>();
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+            for (long idx=1; idx<=count; idx++) {
+                Columns c = new Columns();
+                c.setIntegerThing(idx);
+                c.setStringThing("Select Many Chunks " + idx);
+                long id = dao.insert(c);
+                ids.add(id);
+            }
+
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+            List<Columns> found = dao.selectMany(ids);
+            Assert.assertEquals(count, found.size());
+            Set<Long> foundIds = found.stream().map(Columns::getId).collect(Collectors.toSet());
+            Assert.assertEquals(new HashSet<>(ids), foundIds);
+
+            List<Long> someIds = Arrays.asList(ids.get(0), ids.get(5), ids.get(0), ids.get(7), ids.get(5));
+            Assert.assertEquals(3, dao.selectMany(someIds).size());
+
+            Assert.assertEquals(0, dao.selectMany(Collections.emptyList()).size());
+
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testSelectIdsBucketSize() {
+        Assert.assertEquals(1, DaoImpl.selectIdsBucketSize(1));
+        Assert.assertEquals(4, DaoImpl.selectIdsBucketSize(3));
+        Assert.assertEquals(64, DaoImpl.selectIdsBucketSize(64));
+        Assert.assertEquals(128, DaoImpl.selectIdsBucketSize(65));
+        Assert.assertEquals(DaoImpl.MAXIMUM_SELECT_IDS, DaoImpl.selectIdsBucketSize(DaoImpl.MAXIMUM_SELECT_IDS));
+    }
+
+    @Test
+    public void testUpdateColumns() throws SQLException {
+        long id;
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+            Columns columns = new Columns();
+            columns.setStringThing("Update Columns Test");
+            columns.setIntegerThing(10L);
+            columns.setBooleanThing(true);
+            id = dao.insert(columns);
+
+            columns.setStringThing("Update Columns Test Changed");
+            columns.setIntegerThing(20L);
+            columns.setBooleanThing(false);
+            dao.updateColumns(columns, "integer_column", "BOOLEAN_COLUMN");
+
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+            Columns columns = dao.select(id);
+            Assert.assertEquals("Update Columns Test", columns.getStringThing());
+            Assert.assertEquals(20L, (long) columns.getIntegerThing());
+            Assert.assertFalse(columns.getBooleanThing());
+
+            connection.close();
+        }
+    }
+
+    @Test(expected = HrormException.class)
+    public void testUpdateColumnsRejectsPrimaryKey() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            Columns columns = new Columns();
+            columns.setId(1L);
+            dao.updateColumns(columns, "id");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testPartitionByPrimaryKey() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+        List<Long> ids = new ArrayList<>();
+        for (long idx=0; idx<50; idx++) {
+            Columns c = new Columns();
+            c.setIntegerThing(idx);
+            c.setStringThing("Partition Test");
+            ids.add(dao.insert(c));
+        }
+
+        Where where = new Where("string_column", Operator.EQUALS, "Partition Test");
+        List<Where> partitions = dao.partitionByPrimaryKey(where, 4);
+        Assert.assertTrue(partitions.size() <= 4);
+        Assert.assertTrue(partitions.size() > 1);
+
+        List<Long> foundIds = new ArrayList<>();
+        for (Where partition : partitions) {
+            long sum = dao.foldingSelect(0L, (total, columns) -> total + columns.getIntegerThing(), partition);
+            Assert.assertTrue(sum > 0);
+            foundIds.addAll(dao.select(partition).stream().map(Columns::getId).collect(Collectors.toList()));
+        }
+        Assert.assertEquals(ids.size(), foundIds.size());
+        Assert.assertEquals(new HashSet<>(ids), new HashSet<>(foundIds));
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testRunFunctions() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+        for (long idx=1; idx<=10; idx++) {
+            Columns c = new Columns();
+            c.setIntegerThing(idx);
+            c.setBooleanThing(idx % 2 == 0);
+            c.setStringThing("Run Functions Test");
+            dao.insert(c);
+        }
+
+        Where where = new Where("string_column", Operator.EQUALS, "Run Functions Test");
+
+        List<AggregateRow> totals = dao.runFunctions(
+                Aggregation.all()
+                        .function(SqlFunction.COUNT, "id")
+                        .function(SqlFunction.SUM, "integer_column")
+                        .function(SqlFunction.MAX, "integer_column"),
+                where);
+        Assert.assertEquals(1, totals.size());
+        Assert.assertEquals(10L, (long) totals.get(0).getLong(0));
+        Assert.assertEquals(55L, (long) totals.get(0).getLong(1));
+        Assert.assertEquals(10L, (long) totals.get(0).getLong(2));
+        Assert.assertEquals(dao.runLongFunction(SqlFunction.SUM, "integer_column", where), totals.get(0).getLong(1));
+
+        List<AggregateRow> grouped = dao.runFunctions(
+                Aggregation.groupBy("boolean_column")
+                        .function(SqlFunction.COUNT, "id")
+                        .function(SqlFunction.SUM, "integer_column"),
+                where);
+        Assert.assertEquals(2, grouped.size());
+        for (AggregateRow row : grouped) {
+            Assert.assertEquals(5L, (long) row.getLong(0));
+            boolean even = (Boolean) row.getGroupValue("BOOLEAN_COLUMN");
+            Assert.assertEquals(even ? 30L : 25L, (long) row.getLong(1));
+        }
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testSelectColumns() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+        Columns columns = new Columns();
+        columns.setStringThing("Select Columns Test");
+        columns.setIntegerThing(8531L);
+        columns.setBooleanThing(true);
+        columns.setDecimalThing(new BigDecimal("3.25"));
+        columns.setTimeStampThing(Instant.now());
+        columns.setColorThing(EnumeratedColor.Blue);
+        long id = dao.insert(columns);
+
+        Where where = new Where("string_column", Operator.EQUALS, "Select Columns Test");
+        List<Columns> projected = dao.selectColumns(where, "integer_column", "COLOR_COLUMN");
+
+        Assert.assertEquals(1, projected.size());
+        Columns read = projected.get(0);
+        Assert.assertEquals(id, (long) read.getId());
+        Assert.assertEquals(8531L, (long) read.getIntegerThing());
+        Assert.assertEquals(EnumeratedColor.Blue, read.getColorThing());
+        Assert.assertNull(read.getStringThing());
+        Assert.assertNull(read.getBooleanThing());
+        Assert.assertNull(read.getDecimalThing());
+        Assert.assertNull(read.getTimeStampThing());
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test(expected = HrormException.class)
+    public void testSelectColumnsRejectsUnknownColumns() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            dao.selectColumns(new Where(), "no_such_column");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test(expected = HrormException.class)
+    public void testSelectColumnsRejectsRepeatedColumns() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            dao.selectColumns(new Where(), "integer_column", "INTEGER_COLUMN");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testUpdateWhereAndDeleteWhere() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Columns> dao = daoBuilder().buildDao(connection);
+
+        for (long idx=1; idx<=10; idx++) {
+            Columns c = new Columns();
+            c.setIntegerThing(idx);
+            c.setStringThing("Update Where Test");
+            c.setColorThing(EnumeratedColor.Red);
+            dao.insert(c);
+        }
+
+        Where where = new Where("string_column", Operator.EQUALS, "Update Where Test");
+        Where smallOnes = new Where("string_column", Operator.EQUALS, "Update Where Test")
+                .and("integer_column", Operator.LESS_THAN_OR_EQUALS, 4L);
+
+        Columns template = new Columns();
+        template.setColorThing(EnumeratedColor.Green);
+        template.setBooleanThing(true);
+        long updated = dao.updateWhere(template, smallOnes, "color_column", "boolean_column");
+
+        Assert.assertEquals(4L, updated);
+        for (Columns c : dao.select(where)) {
+            boolean small = c.getIntegerThing() <= 4;
+            Assert.assertEquals(small ? EnumeratedColor.Green : EnumeratedColor.Red, c.getColorThing());
+            Assert.assertEquals(small ? Boolean.TRUE : null, c.getBooleanThing());
+        }
+
+        long deleted = dao.deleteWhere(smallOnes);
+        Assert.assertEquals(4L, deleted);
+        Assert.assertEquals(6, dao.select(where).size());
+        Assert.assertEquals(0L, dao.deleteWhere(smallOnes));
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test(expected = HrormException.class)
+    public void testUpdateWhereRejectsPrimaryKey() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            dao.updateWhere(new Columns(), new Where(), "id");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test(expected = HrormException.class)
+    public void testUpdateWhereRejectsRepeatedColumns() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            dao.updateWhere(new Columns(), new Where(), "color_column", "COLOR_COLUMN");
+        } finally {
+            connection.close();
+        }
+    }
+
     @Test
     public void testAtomicOperations() throws SQLException {
         long id;
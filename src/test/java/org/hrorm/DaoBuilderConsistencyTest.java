@@ -25,7 +25,7 @@ public class DaoBuilderConsistencyTest {
         Class keylessDaoBuilderClass = Class.forName("org.hrorm.IndirectKeylessDaoBuilder");
 
         testEquivalencyOfFluentMethods(daoBuilderClass, keylessDaoBuilderClass,
-                Arrays.asList("withPrimaryKey", "withChildren", "withParentColumn", "withUniqueConstraint"));
+                Arrays.asList("withPrimaryKey", "withSequenceBlockSize", "withChildren", "withParentColumn", "withUniqueConstraint"));
     }
 
     @Test
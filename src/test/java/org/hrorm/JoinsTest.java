@@ -7,6 +7,7 @@ import org.hrorm.examples.EnumeratedColor;
 import org.hrorm.examples.EnumeratedColorConverter;
 import org.hrorm.examples.siblings.SecondCousin;
 import org.hrorm.examples.siblings.Sibling;
+import org.hrorm.examples.siblings.SiblingPair;
 import org.hrorm.examples.siblings.Thing;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -16,6 +17,7 @@ import org.junit.Test;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 
 public class JoinsTest {
 
@@ -62,6 +64,12 @@ public class JoinsTest {
                     .withStringColumn("name", Thing::getName, Thing::setName)
                     .withJoinColumn("sibling_id", Thing::getSibling, Thing::setSibling, SiblingDaoBuilder).notNull();
 
+    private static DaoBuilder<SiblingPair> SiblingPairDaoBuilder =
+            new DaoBuilder<>("sibling_pairs", SiblingPair::new)
+                    .withPrimaryKey("sibling_pair_id", "sibling_pair_seq", SiblingPair::getId, SiblingPair::setId)
+                    .withJoinColumn("first_sibling_id", SiblingPair::getFirst, SiblingPair::setFirst, SiblingDaoBuilder)
+                    .withJoinColumn("second_sibling_id", SiblingPair::getSecond, SiblingPair::setSecond, SiblingDaoBuilder);
+
 
     @Test
     public void testSelectLoadsSiblingAndCousin() throws SQLException {
@@ -243,6 +251,212 @@ public class JoinsTest {
         connection.close();
     }
 
+    @Test
+    public void testSharedJoinedEntities() throws SQLException {
+        Connection connection = helper.connect();
+
+        Dao<SecondCousin> secondCousinDao = SecondCousinDaoBuilder.buildDao(connection);
+        Dao<Cousin> cousinDao = CousinDaoBuilder.buildDao(connection);
+        Dao<Sibling> siblingDao = SiblingDaoBuilder.buildDao(connection);
+        Dao<Thing> thingDao = ThingDaoBuilder.buildDao(connection);
+
+        SecondCousin secondCousin = new SecondCousin();
+        secondCousin.setDateTime(Instant.now());
+        secondCousinDao.insert(secondCousin);
+
+        Cousin cousin = new Cousin();
+        cousin.setColor(EnumeratedColor.Red);
+        cousin.setSecondCousin(secondCousin);
+        cousinDao.insert(cousin);
+
+        Sibling sibling = new Sibling();
+        sibling.setNumber(71L);
+        sibling.setCousin(cousin);
+        siblingDao.insert(sibling);
+
+        Sibling otherSibling = new Sibling();
+        otherSibling.setNumber(72L);
+        otherSibling.setCousin(cousin);
+        siblingDao.insert(otherSibling);
+
+        for( int idx = 0; idx < 3; idx++ ) {
+            Thing thing = new Thing();
+            thing.setName("shared joins test");
+            thing.setSibling(idx < 2 ? sibling : otherSibling);
+            thingDao.insert(thing);
+        }
+        Thing orphan = new Thing();
+        orphan.setName("shared joins test");
+        thingDao.insert(orphan);
+
+        Where where = Where.where("name", Operator.EQUALS, "shared joins test");
+        Order order = Order.ascending("thing_id");
+
+        List<Thing> unshared = thingDao.select(where, order);
+        Assert.assertEquals(4, unshared.size());
+        Assert.assertNotSame(unshared.get(0).getSibling(), unshared.get(1).getSibling());
+        Assert.assertEquals(unshared.get(0).getSibling(), unshared.get(1).getSibling());
+
+        Dao<Thing> sharingDao = thingDao.withStatementOptions(
+                thingDao.statementOptions().withSharedJoinedEntities(true));
+        List<Thing> shared = sharingDao.select(where, order);
+        Assert.assertEquals(unshared, shared);
+        Assert.assertSame(shared.get(0).getSibling(), shared.get(1).getSibling());
+        Assert.assertNotSame(shared.get(0).getSibling(), shared.get(2).getSibling());
+        Assert.assertSame(shared.get(0).getSibling().getCousin(), shared.get(2).getSibling().getCousin());
+        Assert.assertNull(shared.get(3).getSibling());
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testSelectColumnsOnlyJoinsNamedJoinColumns() throws SQLException {
+        Connection connection = helper.connect();
+
+        Dao<SecondCousin> secondCousinDao = SecondCousinDaoBuilder.buildDao(connection);
+        Dao<Cousin> cousinDao = CousinDaoBuilder.buildDao(connection);
+        Dao<Sibling> siblingDao = SiblingDaoBuilder.buildDao(connection);
+        Dao<Thing> thingDao = ThingDaoBuilder.buildDao(connection);
+
+        SecondCousin secondCousin = new SecondCousin();
+        secondCousin.setDateTime(Instant.now());
+        secondCousinDao.insert(secondCousin);
+
+        Cousin cousin = new Cousin();
+        cousin.setColor(EnumeratedColor.Blue);
+        cousin.setSecondCousin(secondCousin);
+        cousinDao.insert(cousin);
+
+        Sibling sibling = new Sibling();
+        sibling.setNumber(83L);
+        sibling.setCousin(cousin);
+        siblingDao.insert(sibling);
+
+        Thing thing = new Thing();
+        thing.setName("select columns test");
+        thing.setSibling(sibling);
+        long thingId = thingDao.insert(thing);
+
+        Where where = Where.where("name", Operator.EQUALS, "select columns test");
+
+        List<Thing> namesOnly = thingDao.selectColumns(where, "name");
+        Assert.assertEquals(1, namesOnly.size());
+        Assert.assertEquals(thingId, (long) namesOnly.get(0).getId());
+        Assert.assertEquals("select columns test", namesOnly.get(0).getName());
+        Assert.assertNull(namesOnly.get(0).getSibling());
+
+        List<Thing> siblingsOnly = thingDao.selectColumns(where, "sibling_id");
+        Assert.assertEquals(1, siblingsOnly.size());
+        Assert.assertNull(siblingsOnly.get(0).getName());
+        Assert.assertEquals(83L, (long) siblingsOnly.get(0).getSibling().getNumber());
+        Assert.assertEquals(EnumeratedColor.Blue, siblingsOnly.get(0).getSibling().getCousin().getColor());
+        Assert.assertEquals(secondCousin.getId(), siblingsOnly.get(0).getSibling().getCousin().getSecondCousin().getId());
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testWithFetchedJoinsReadsOtherJoinsAsReferences() throws SQLException {
+        Connection connection = helper.connect();
+
+        Dao<SecondCousin> secondCousinDao = SecondCousinDaoBuilder.buildDao(connection);
+        Dao<Cousin> cousinDao = CousinDaoBuilder.buildDao(connection);
+        Dao<Sibling> siblingDao = SiblingDaoBuilder.buildDao(connection);
+        Dao<Thing> thingDao = ThingDaoBuilder.buildDao(connection);
+
+        SecondCousin secondCousin = new SecondCousin();
+        secondCousin.setDateTime(Instant.now());
+        secondCousinDao.insert(secondCousin);
+
+        Cousin cousin = new Cousin();
+        cousin.setColor(EnumeratedColor.Green);
+        cousin.setSecondCousin(secondCousin);
+        cousinDao.insert(cousin);
+
+        Sibling sibling = new Sibling();
+        sibling.setNumber(91L);
+        sibling.setCousin(cousin);
+        siblingDao.insert(sibling);
+
+        Thing thing = new Thing();
+        thing.setName("fetched joins test");
+        thing.setSibling(sibling);
+        long thingId = thingDao.insert(thing);
+
+        Thing siblingFetched = thingDao.withFetchedJoins("sibling_id").select(thingId);
+        Assert.assertEquals("fetched joins test", siblingFetched.getName());
+        Assert.assertEquals(91L, (long) siblingFetched.getSibling().getNumber());
+        Assert.assertEquals(cousin.getId(), siblingFetched.getSibling().getCousin().getId());
+        Assert.assertNull(siblingFetched.getSibling().getCousin().getColor());
+        Assert.assertNull(siblingFetched.getSibling().getCousin().getSecondCousin());
+
+        Thing nothingFetched = thingDao.withFetchedJoins().select(thingId);
+        Assert.assertEquals("fetched joins test", nothingFetched.getName());
+        Assert.assertEquals(sibling.getId(), nothingFetched.getSibling().getId());
+        Assert.assertNull(nothingFetched.getSibling().getNumber());
+        Assert.assertNull(nothingFetched.getSibling().getCousin());
+
+        Thing allFetched = thingDao.withFetchedJoins("sibling_id.cousin_id.second_cousin_id").select(thingId);
+        Assert.assertEquals(thingDao.select(thingId), allFetched);
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testWithFetchedJoinsAndSharedJoinedEntities() throws SQLException {
+        Connection connection = helper.connect();
+
+        Dao<Sibling> siblingDao = SiblingDaoBuilder.buildDao(connection);
+        Dao<SiblingPair> pairDao = SiblingPairDaoBuilder.buildDao(connection);
+
+        Sibling sibling = new Sibling();
+        sibling.setNumber(101L);
+        siblingDao.insert(sibling);
+
+        Sibling otherSibling = new Sibling();
+        otherSibling.setNumber(102L);
+        siblingDao.insert(otherSibling);
+
+        // the first pair reads the sibling as a reference, the second pair fetches it
+        SiblingPair referencingPair = new SiblingPair();
+        referencingPair.setFirst(otherSibling);
+        referencingPair.setSecond(sibling);
+        pairDao.insert(referencingPair);
+
+        SiblingPair fetchingPair = new SiblingPair();
+        fetchingPair.setFirst(sibling);
+        pairDao.insert(fetchingPair);
+
+        Dao<SiblingPair> plannedDao = pairDao
+                .withStatementOptions(pairDao.statementOptions().withSharedJoinedEntities(true))
+                .withFetchedJoins("first_sibling_id");
+        List<SiblingPair> pairs = plannedDao.select(Where.where(), Order.ascending("sibling_pair_id"));
+
+        Assert.assertEquals(2, pairs.size());
+        Assert.assertEquals(102L, (long) pairs.get(0).getFirst().getNumber());
+        Assert.assertEquals(sibling.getId(), pairs.get(0).getSecond().getId());
+        Assert.assertNull(pairs.get(0).getSecond().getNumber());
+        Assert.assertEquals(101L, (long) pairs.get(1).getFirst().getNumber());
+        Assert.assertNotSame(pairs.get(0).getSecond(), pairs.get(1).getFirst());
+        Assert.assertNull(pairs.get(1).getSecond());
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test(expected = HrormException.class)
+    public void testWithFetchedJoinsRejectsUnknownJoins() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            ThingDaoBuilder.buildDao(connection).withFetchedJoins("sibling_id.no_such_join");
+        } finally {
+            connection.close();
+        }
+    }
+
     @Test
     public void testDaoValidation() throws SQLException {
         Connection connection = helper.connect();
@@ -251,6 +465,7 @@ public class JoinsTest {
         Validator.validate(connection, CousinDaoBuilder);
         Validator.validate(connection, SiblingDaoBuilder);
         Validator.validate(connection, ThingDaoBuilderNotNullSibling);
+        Validator.validate(connection, SiblingPairDaoBuilder);
         connection.close();
     }
 
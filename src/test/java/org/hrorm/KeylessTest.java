@@ -12,6 +12,8 @@ import org.junit.Test;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
@@ -142,6 +144,30 @@ public class KeylessTest {
         connection.close();
     }
 
+    @Test
+    public void testOrderedFoldingSelect() throws SQLException {
+        Connection connection = helper.connect();
+        KeylessDao<Keyless> dao = new IndirectKeylessDaoBuilder<>("keyless_table", Keyless::new, (Keyless k) -> k)
+                .withFetchSize(10)
+                .withStringColumn("string_column", Keyless::getStringColumn, Keyless::setStringColumn)
+                .withLongColumn("integer_column", Keyless::getIntegerColumn, Keyless::setIntegerColumn)
+                .buildDao(connection);
+
+        List<Long> folded = dao.foldingSelect(new ArrayList<>(),
+                (list, k) -> { list.add(k.getIntegerColumn()); return list; },
+                Where.where(),
+                Order.descending("integer_column"));
+
+        List<Long> expected = dao.select(Where.where()).stream()
+                .map(Keyless::getIntegerColumn)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        Assert.assertTrue(folded.size() >= fakeEntities.size());
+        Assert.assertEquals(expected, folded);
+        connection.close();
+    }
+
     @Test
     public void testValidate() throws SQLException {
         Connection connection = helper.connect();
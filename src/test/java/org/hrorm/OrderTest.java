@@ -41,6 +41,13 @@ public class OrderTest {
         return ColumnsDaoBuilder.DAO_BUILDER;
     }
 
+    private DaoBuilder<Columns> pageDaoBuilder(){
+        return new DaoBuilder<>("columns_table", Columns::new)
+                .withPrimaryKey("id", "columns_seq", Columns::getId, Columns::setId)
+                .withStringColumn("string_column", Columns::getStringThing, Columns::setStringThing)
+                .withLongColumn("integer_column", Columns::getIntegerThing, Columns::setIntegerThing).notNull();
+    }
+
     @Test
     public void testOrder() throws SQLException {
 
@@ -158,6 +165,45 @@ public class OrderTest {
         }
     }
 
+    @Test
+    public void testRenderAppliesDirectionToEachColumn() {
+        Assert.assertEquals(" ORDER BY string_column ASC, integer_column ASC",
+                Order.ascending("string_column", "integer_column").render());
+        Assert.assertEquals(" ORDER BY string_column DESC, integer_column DESC",
+                Order.descending("string_column", "integer_column").render());
+    }
+
+    @Test
+    public void testOrderingDescendingOnTwoColumns() throws SQLException {
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            for (String s : Arrays.asList("a", "b", "c")) {
+                for (long n = 0; n < 5; n++) {
+                    Columns columns = new Columns();
+                    columns.setStringThing(s);
+                    columns.setIntegerThing(n);
+                    dao.insert(columns);
+                }
+            }
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            List<Columns> ordered = dao.select(new Where(), Order.descending("string_column", "integer_column"));
+            connection.close();
+
+            Assert.assertEquals(15, ordered.size());
+            for (int idx = 0; idx < ordered.size(); idx++) {
+                Columns columns = ordered.get(idx);
+                Assert.assertEquals(Arrays.asList("c", "b", "a").get(idx / 5), columns.getStringThing());
+                Assert.assertEquals(4 - idx % 5, (long) columns.getIntegerThing());
+            }
+        }
+    }
+
     @Test
     public void testOrderForSelectAll() throws SQLException {
 
@@ -242,4 +288,68 @@ public class OrderTest {
         }
     }
 
+    @Test
+    public void testSelectPage() throws SQLException {
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            for (long idx = 0; idx < 25; idx++) {
+                Columns columns = new Columns();
+                columns.setIntegerThing(idx % 5);
+                columns.setStringThing(idx % 2 == 0 ? "page even" : "page odd");
+                dao.insert(columns);
+            }
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Columns> dao = pageDaoBuilder().buildDao(connection);
+
+            for (Order order : Arrays.asList(Order.ascending("integer_column"), Order.descending("integer_column"))) {
+                List<Columns> all = new ArrayList<>();
+                List<Integer> pageSizes = new ArrayList<>();
+                Cursor<Columns> cursor = null;
+                do {
+                    Page<Columns> page = dao.selectPage(new Where(), order, 4, cursor);
+                    all.addAll(page.getItems());
+                    pageSizes.add(page.getItems().size());
+                    cursor = page.getNext();
+                } while (cursor != null);
+
+                Assert.assertEquals(Arrays.asList(4, 4, 4, 4, 4, 4, 1), pageSizes);
+                Assert.assertEquals(25, all.stream().map(Columns::getId).distinct().count());
+                for (int idx = 1; idx < all.size(); idx++) {
+                    Columns previous = all.get(idx - 1);
+                    Columns current = all.get(idx);
+                    int comparison = previous.getIntegerThing().compareTo(current.getIntegerThing());
+                    if (comparison == 0) {
+                        comparison = previous.getId().compareTo(current.getId());
+                    }
+                    Assert.assertTrue(order.isAscending() ? comparison < 0 : comparison > 0);
+                }
+            }
+
+            Where even = new Where("string_column", Operator.EQUALS, "page even");
+            Page<Columns> first = dao.selectPage(even, Order.ascending("integer_column"), 10, null);
+            Assert.assertEquals(10, first.getItems().size());
+            Assert.assertTrue(first.hasNext());
+            Page<Columns> second = dao.selectPage(even, Order.ascending("integer_column"), 10, first.getNext());
+            Assert.assertEquals(3, second.getItems().size());
+            Assert.assertFalse(second.hasNext());
+
+            connection.close();
+        }
+    }
+
+    @Test(expected = HrormException.class)
+    public void testSelectPageRejectsNullableColumns() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Columns> dao = daoBuilder().buildDao(connection);
+            dao.selectPage(new Where(), Order.ascending("integer_column"), 4, null);
+        } finally {
+            connection.close();
+        }
+    }
 }
@@ -14,6 +14,7 @@ import org.junit.Test;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -94,6 +95,39 @@ public class ParentsTest {
         connection.close();
     }
 
+    @Test
+    public void testWithoutChildren() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+        Dao<Parent> shallowDao = parentDao.withoutChildren();
+
+        Child child = new Child();
+        child.setNumber(123L);
+
+        Parent parent = new Parent();
+        parent.setName("without children test");
+        parent.setChildList(Arrays.asList(child));
+
+        long id = parentDao.insert(parent);
+
+        Parent shallowParent = shallowDao.select(id);
+
+        Assert.assertEquals("without children test", shallowParent.getName());
+        Assert.assertNull(shallowParent.getChildList());
+
+        shallowParent.setName("without children test updated");
+        shallowDao.update(shallowParent);
+
+        Parent readAfterUpdate = parentDao.select(id);
+
+        Assert.assertEquals("without children test updated", readAfterUpdate.getName());
+        Assert.assertEquals(1, readAfterUpdate.getChildList().size());
+        Assert.assertEquals(123L, (long) readAfterUpdate.getChildList().get(0).getNumber());
+
+        connection.commit();
+        connection.close();
+    }
+
     @Test
     public void testUpdatesPropagate() throws SQLException {
         Connection connection = helper.connect();
@@ -210,6 +244,95 @@ public class ParentsTest {
 
     }
 
+    @Test
+    public void testRemovingManyChildrenDeletesTheirGrandchildren() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+        Dao<Grandchild> grandchildDao = ParentChildBuilders.GrandchildDaoBuilder.buildDao(connection);
+
+        List<Child> children = new ArrayList<>();
+        for( long idx = 0; idx < 20; idx++ ){
+            List<Grandchild> grandchildren = new ArrayList<>();
+            for( EnumeratedColor color : Arrays.asList(EnumeratedColor.Red, EnumeratedColor.Green, EnumeratedColor.Blue) ){
+                Grandchild grandchild = new Grandchild();
+                grandchild.setColor(color);
+                grandchildren.add(grandchild);
+            }
+            Child child = new Child();
+            child.setNumber(idx);
+            child.setGrandchildList(grandchildren);
+            children.add(child);
+        }
+        Parent parent = new Parent();
+        parent.setName("remove many children test");
+        parent.setChildList(children);
+        long parentId = parentDao.insert(parent);
+
+        List<Long> keptIds = children.subList(0, 5).stream().map(Child::getId).collect(Collectors.toList());
+        List<Long> removedIds = children.subList(5, 20).stream().map(Child::getId).collect(Collectors.toList());
+
+        parent.setChildList(new ArrayList<>(children.subList(0, 5)));
+        parentDao.update(parent);
+
+        Parent readItem = parentDao.select(parentId);
+        Assert.assertEquals(5, readItem.getChildList().size());
+
+        Assert.assertEquals(15, grandchildDao.select(Where.inLong("child_table_id", keptIds)).size());
+        Assert.assertEquals(0, grandchildDao.select(Where.inLong("child_table_id", removedIds)).size());
+
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    public void testDeleteWhereWithChildren() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+        Dao<Child> childDao = ParentChildBuilders.ChildDaoBuilder.buildDao(connection);
+        Dao<Grandchild> grandchildDao = ParentChildBuilders.GrandchildDaoBuilder.buildDao(connection);
+
+        List<Long> childIds = new ArrayList<>();
+        List<Long> keptChildIds = new ArrayList<>();
+        for( long idx = 0; idx < 4; idx++ ){
+            Grandchild grandchild = new Grandchild();
+            grandchild.setColor(EnumeratedColor.Blue);
+            Child child = new Child();
+            child.setNumber(idx);
+            child.setGrandchildList(Arrays.asList(grandchild));
+
+            Parent parent = new Parent();
+            parent.setName(idx < 3 ? "delete where with children test" : "delete where survivor test");
+            parent.setChildList(Arrays.asList(child));
+            parentDao.insert(parent);
+
+            (idx < 3 ? childIds : keptChildIds).add(child.getId());
+        }
+
+        long deleted = parentDao.deleteWhereWithChildren(
+                Where.where("name", Operator.EQUALS, "delete where with children test"));
+
+        Assert.assertEquals(3L, deleted);
+        Assert.assertEquals(0, childDao.select(Where.inLong("id", childIds)).size());
+        Assert.assertEquals(0, grandchildDao.select(Where.inLong("child_table_id", childIds)).size());
+        Assert.assertEquals(1, childDao.select(Where.inLong("id", keptChildIds)).size());
+        Assert.assertEquals(1, grandchildDao.select(Where.inLong("child_table_id", keptChildIds)).size());
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test(expected = HrormException.class)
+    public void testDeleteWhereWithChildrenRejectsDaoWithoutChildren() throws SQLException {
+        Connection connection = helper.connect();
+        try {
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+            parentDao.withoutChildren().deleteWhereWithChildren(
+                    Where.where("name", Operator.EQUALS, "delete where without children test"));
+        } finally {
+            connection.close();
+        }
+    }
+
     @Test
     public void deletionOfChildrenDoesNotOrphanGrandchildRecords() throws SQLException {
 
@@ -540,4 +663,135 @@ public class ParentsTest {
             connection.close();
         }
     }
+
+    @Test
+    public void testSelectLoadsChildrenForManyParents() throws SQLException {
+        String name = "Many Parents Test";
+        int parentCount = ChildrenDescriptor.BATCH_SIZE + 17;
+        {
+            Connection connection = helper.connect();
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+
+            for( long idx = 0; idx < parentCount; idx++ ){
+                Grandchild grandchild = new Grandchild();
+                grandchild.setColor(EnumeratedColor.Red);
+
+                Child childA = new Child();
+                childA.setNumber(idx);
+                childA.setGrandchildList(Collections.singletonList(grandchild));
+                Child childB = new Child();
+                childB.setNumber(idx + 10000);
+                childB.setGrandchildList(Collections.emptyList());
+
+                Parent parent = new Parent();
+                parent.setName(name);
+                parent.setChildList(Arrays.asList(childA, childB));
+                parentDao.insert(parent);
+            }
+
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+
+            List<Parent> parents = parentDao.select(Where.where("name", Operator.EQUALS, name));
+
+            Assert.assertEquals(parentCount, parents.size());
+            for( Parent parent : parents ){
+                Assert.assertEquals(2, parent.getChildList().size());
+                List<Long> numbers = parent.getChildList().stream()
+                        .map(Child::getNumber).sorted().collect(Collectors.toList());
+                Assert.assertEquals(numbers.get(0) + 10000, (long) numbers.get(1));
+                for( Child child : parent.getChildList() ){
+                    Assert.assertEquals(parent, child.getParent());
+                    int expectedGrandchildren = child.getNumber() < 10000 ? 1 : 0;
+                    Assert.assertEquals(expectedGrandchildren, child.getGrandchildList().size());
+                }
+            }
+
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testInsertUpdateAndDeleteAll() throws SQLException {
+        String name = "Insert All Test";
+        int parentCount = 250;
+        List<Long> ids;
+        {
+            Connection connection = helper.connect();
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+
+            List<Parent> parents = new ArrayList<>();
+            for( long idx = 0; idx < parentCount; idx++ ){
+                Grandchild grandchild = new Grandchild();
+                grandchild.setColor(EnumeratedColor.Red);
+
+                Child child = new Child();
+                child.setNumber(idx);
+                child.setGrandchildList(Collections.singletonList(grandchild));
+
+                Parent parent = new Parent();
+                parent.setName(name);
+                parent.setChildList(Collections.singletonList(child));
+                parents.add(parent);
+            }
+
+            ids = parentDao.insertAll(parents);
+
+            Assert.assertEquals(parentCount, ids.size());
+            for( int idx = 0; idx < parentCount; idx++ ){
+                Assert.assertEquals(ids.get(idx), parents.get(idx).getId());
+                Assert.assertNotNull(parents.get(idx).getChildList().get(0).getId());
+            }
+
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+
+            List<Parent> parents = parentDao.selectMany(ids);
+            Assert.assertEquals(parentCount, parents.size());
+            for( Parent parent : parents ){
+                Assert.assertEquals(1, parent.getChildList().size());
+                Child child = parent.getChildList().get(0);
+                Assert.assertEquals(1, child.getGrandchildList().size());
+                Assert.assertEquals(EnumeratedColor.Red, child.getGrandchildList().get(0).getColor());
+
+                parent.setName(name + " updated");
+                child.setNumber(child.getNumber() + 1000);
+                child.getGrandchildList().get(0).setColor(EnumeratedColor.Green);
+            }
+
+            parentDao.updateAll(parents);
+
+            connection.commit();
+            connection.close();
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Parent> parentDao = ParentChildBuilders.ParentDaoBuilder.buildDao(connection);
+
+            List<Parent> parents = parentDao.selectMany(ids);
+            Assert.assertEquals(parentCount, parents.size());
+            for( Parent parent : parents ){
+                Assert.assertEquals(name + " updated", parent.getName());
+                Assert.assertEquals(1, parent.getChildList().size());
+                Child child = parent.getChildList().get(0);
+                Assert.assertTrue(child.getNumber() >= 1000);
+                Assert.assertEquals(1, child.getGrandchildList().size());
+                Assert.assertEquals(EnumeratedColor.Green, child.getGrandchildList().get(0).getColor());
+            }
+
+            parentDao.deleteAll(parents);
+            Assert.assertEquals(0, parentDao.selectMany(ids).size());
+
+            connection.commit();
+            connection.close();
+        }
+    }
 }
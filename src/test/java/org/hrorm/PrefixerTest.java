@@ -0,0 +1,58 @@
+package org.hrorm;
+
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class PrefixerTest {
+
+    @Data
+    public static class Link {
+        private Long id;
+        private String name;
+        private Link next;
+    }
+
+    @Test
+    public void testPrefixesAreUnlimitedAndUnique(){
+        Prefixer prefixer = new Prefixer();
+        Set<String> seen = new HashSet<>();
+
+        Assert.assertEquals(Prefixer.FIRST_PREFIX, prefixer.nextPrefix());
+        seen.add(Prefixer.FIRST_PREFIX);
+        for( int idx = 1; idx < 26; idx++ ){
+            seen.add(prefixer.nextPrefix());
+        }
+        Assert.assertEquals("a1", prefixer.nextPrefix());
+        Assert.assertEquals("b1", prefixer.nextPrefix());
+        seen.add("a1");
+        seen.add("b1");
+        for( int idx = 0; idx < 1000; idx++ ){
+            Assert.assertTrue(seen.add(prefixer.nextPrefix()));
+        }
+    }
+
+    @Test
+    public void testMoreThanTwentySixJoinedTables(){
+        int depth = 40;
+        DaoBuilder<Link> daoBuilder = new DaoBuilder<>("link_" + depth, Link::new)
+                .withPrimaryKey("id", "link_seq", Link::getId, Link::setId)
+                .withStringColumn("name", Link::getName, Link::setName);
+        for( int level = depth - 1; level >= 0; level-- ){
+            daoBuilder = new DaoBuilder<>("link_" + level, Link::new)
+                    .withPrimaryKey("id", "link_seq", Link::getId, Link::setId)
+                    .withStringColumn("name", Link::getName, Link::setName)
+                    .withJoinColumn("next_id", Link::getNext, Link::setNext, daoBuilder);
+        }
+
+        String sql = new KeylessSqlBuilder<>(daoBuilder).select();
+
+        for( int level = 1; level <= depth; level++ ){
+            Assert.assertTrue(sql.contains(" LEFT JOIN link_" + level + " "));
+        }
+        Assert.assertTrue(sql.contains(" a1.name as a1name"));
+    }
+}
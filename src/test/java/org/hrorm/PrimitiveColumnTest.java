@@ -0,0 +1,125 @@
+package org.hrorm;
+
+import org.hrorm.database.Helper;
+import org.hrorm.database.HelperFactory;
+import org.hrorm.examples.Primitives;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PrimitiveColumnTest {
+
+    private static Helper helper = HelperFactory.forSchema("primitives");
+
+    private static DaoBuilder<Primitives> DAO_BUILDER = new DaoBuilder<>("primitives", Primitives::new)
+            .withPrimaryKey("id", "primitives_seq", Primitives::getId, Primitives::setId)
+            .withPrimitiveLongColumn("long_column", Primitives::getLongValue, Primitives::setLongValue)
+            .withPrimitiveIntColumn("int_column", Primitives::getIntValue, Primitives::setIntValue)
+            .withPrimitiveDoubleColumn("double_column", Primitives::getDoubleValue, Primitives::setDoubleValue);
+
+    @BeforeClass
+    public static void setUpDb(){
+        helper.initializeSchema();
+    }
+
+    @AfterClass
+    public static void cleanUpDb(){
+        helper.dropSchema();
+    }
+
+    @Test
+    public void testInsertAndSelect() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Primitives> dao = DAO_BUILDER.buildDao(connection);
+
+        Primitives primitives = new Primitives();
+        primitives.setLongValue(Long.MAX_VALUE - 7);
+        primitives.setIntValue(-42);
+        primitives.setDoubleValue(3.25);
+        long id = dao.insert(primitives);
+
+        Primitives read = dao.select(id);
+        Assert.assertEquals(primitives, read);
+
+        read.setIntValue(17);
+        dao.update(read);
+
+        List<Primitives> found = dao.selectManyByColumns(read, "int_column");
+        Assert.assertEquals(1, found.size());
+        Assert.assertEquals(read, found.get(0));
+
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    public void testNullIsReadAsZero() throws SQLException {
+        Connection connection = helper.connect();
+        connection.createStatement().execute(
+                "insert into primitives (id, long_column, int_column, double_column) values (-1, null, null, null)");
+
+        Dao<Primitives> dao = DAO_BUILDER.buildDao(connection);
+        Primitives read = dao.select(-1L);
+
+        Assert.assertEquals(0L, read.getLongValue());
+        Assert.assertEquals(0, read.getIntValue());
+        Assert.assertEquals(0.0, read.getDoubleValue(), 0.0);
+
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testPartitionByPrimaryKeyNearLongLimits() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Primitives> dao = DAO_BUILDER.buildDao(connection);
+
+        List<Long> nearMax = new ArrayList<>();
+        for (long idx=0; idx<10; idx++) {
+            nearMax.add(Long.MAX_VALUE - idx);
+        }
+        List<Long> bothEnds = new ArrayList<>(nearMax);
+        bothEnds.add(Long.MIN_VALUE);
+        bothEnds.add(Long.MIN_VALUE + 1);
+
+        PreparedStatement statement = connection.prepareStatement(
+                "insert into primitives (id, long_column, int_column, double_column) values (?, 0, ?, 0)");
+        for (Long id : bothEnds) {
+            statement.setLong(1, id);
+            statement.setInt(2, nearMax.contains(id) ? 101 : 102);
+            statement.executeUpdate();
+        }
+        statement.close();
+
+        Where nearMaxOnly = new Where("int_column", Operator.EQUALS, 101L);
+        Where all = new Where("int_column", Operator.GREATER_THAN_OR_EQUALS, 101L);
+        for (int partitionCount=1; partitionCount<=12; partitionCount++) {
+            assertPartitionsCover(dao, nearMaxOnly, partitionCount, nearMax);
+            assertPartitionsCover(dao, all, partitionCount, bothEnds);
+        }
+
+        connection.rollback();
+        connection.close();
+    }
+
+    private static void assertPartitionsCover(Dao<Primitives> dao, Where where, int partitionCount, List<Long> ids){
+        List<Where> partitions = dao.partitionByPrimaryKey(where, partitionCount);
+        Assert.assertTrue(partitions.size() <= partitionCount);
+
+        List<Long> foundIds = new ArrayList<>();
+        for (Where partition : partitions) {
+            foundIds.addAll(dao.select(partition).stream().map(Primitives::getId).collect(Collectors.toList()));
+        }
+        Assert.assertEquals(ids.size(), foundIds.size());
+        Assert.assertEquals(new HashSet<>(ids), new HashSet<>(foundIds));
+    }
+}
@@ -0,0 +1,78 @@
+package org.hrorm;
+
+import org.hrorm.database.Helper;
+import org.hrorm.database.HelperFactory;
+import org.hrorm.examples.Simple;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SequenceBlockTest {
+
+    private static Helper helper = HelperFactory.forSchema("sequence_blocks");
+
+    private static DaoBuilder<Simple> DAO_BUILDER = new DaoBuilder<>("blocked", Simple::new)
+            .withPrimaryKey("blocked_id", "blocked_seq", Simple::getId, Simple::setId)
+            .withSequenceBlockSize(10)
+            .withStringColumn("field", Simple::getField, Simple::setField);
+
+    @BeforeClass
+    public static void setUpDb(){
+        helper.initializeSchema();
+    }
+
+    @AfterClass
+    public static void cleanUpDb(){
+        helper.dropSchema();
+    }
+
+    @Test
+    public void testDaosFromSameBuilderShareBlocks() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Simple> daoA = DAO_BUILDER.buildDao(connection);
+        Dao<Simple> daoB = DAO_BUILDER.buildDao(connection);
+
+        List<Long> ids = new ArrayList<>();
+        for( int idx = 0; idx < 25; idx++ ){
+            Simple simple = new Simple();
+            simple.setField("Block test " + idx);
+            Dao<Simple> dao = idx % 2 == 0 ? daoA : daoB;
+            ids.add(dao.insert(simple));
+            Assert.assertEquals(ids.get(idx), simple.getId());
+        }
+
+        Set<Long> distinctIds = new HashSet<>(ids);
+        Assert.assertEquals(25, distinctIds.size());
+
+        long min = Collections.min(ids);
+        long max = Collections.max(ids);
+        Assert.assertEquals(24, max - min);
+
+        List<Simple> simples = daoA.selectMany(ids);
+        Assert.assertEquals(25, simples.size());
+
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    public void testSchemaSequenceIncrementsByBlockSize(){
+        Schema schema = new Schema(DAO_BUILDER);
+        Assert.assertEquals(Collections.singletonList("create sequence blocked_seq increment by 10;"), schema.sequences());
+    }
+
+    @Test(expected = HrormException.class)
+    public void testBlockSizeRequiresPrimaryKey(){
+        new DaoBuilder<>("blocked", Simple::new)
+                .withSequenceBlockSize(10);
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.Test;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -82,6 +83,37 @@ public class SimpleParentChildTest {
         }
     }
 
+    @Test
+    public void testSelectPageReadsChildren() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<SimpleParent> dao = SimpleParentChildDaos.PARENT.buildDao(connection);
+
+        for(int idx=0; idx<3; idx++){
+            SimpleParent parent = new SimpleParent();
+            parent.setName("paged parent");
+            parent.setChildren(newChildren(Arrays.asList("first child " + idx, "second child " + idx)));
+            dao.insert(parent);
+        }
+
+        Where where = Where.where("name", Operator.EQUALS, "paged parent");
+        Page<SimpleParent> first = dao.selectPage(where, Order.ascending("id"), 2, null);
+        Assert.assertEquals(2, first.getItems().size());
+        Assert.assertNotNull(first.getNext());
+        for(int idx=0; idx<2; idx++){
+            assertSameContent(Arrays.asList("first child " + idx, "second child " + idx),
+                    extractNames(first.getItems().get(idx).getChildren()));
+        }
+
+        Page<SimpleParent> second = dao.selectPage(where, Order.ascending("id"), 2, first.getNext());
+        Assert.assertEquals(1, second.getItems().size());
+        Assert.assertNull(second.getNext());
+        assertSameContent(Arrays.asList("first child 2", "second child 2"),
+                extractNames(second.getItems().get(0).getChildren()));
+
+        connection.rollback();
+        connection.close();
+    }
+
     private void testInsertUpdateSelect() throws SQLException {
         long parentId;
         String parentName;
@@ -154,4 +154,33 @@ public class SimpleTableTest {
         connection.commit();
         connection.close();
     }
+
+    @Test
+    public void testMaxRows() throws SQLException {
+        Connection connection = helper.connect();
+
+        Dao<Simple> dao = daoBuilder().buildDao(connection);
+
+        for( int idx = 0; idx < 5; idx++ ){
+            Simple simple = new Simple();
+            simple.setField("MaxRowsTest");
+            dao.insert(simple);
+        }
+
+        Where where = Where.where("field", Operator.EQUALS, "MaxRowsTest");
+
+        Assert.assertEquals(5, dao.select(where).size());
+
+        Dao<Simple> limitedDao = dao.withStatementOptions(dao.statementOptions().withMaxRows(2));
+        Assert.assertEquals(2, limitedDao.select(where).size());
+        Assert.assertEquals(5, dao.select(where).size());
+
+        Dao<Simple> builtLimitedDao = daoBuilder().withMaxRows(3).withQueryTimeout(30).buildDao(connection);
+        Assert.assertEquals(3, builtLimitedDao.select(where).size());
+        Assert.assertEquals(3, builtLimitedDao.statementOptions().getMaxRows());
+        Assert.assertEquals(30, builtLimitedDao.statementOptions().getQueryTimeout());
+
+        connection.commit();
+        connection.close();
+    }
 }
@@ -0,0 +1,211 @@
+package org.hrorm;
+
+import org.hrorm.database.Helper;
+import org.hrorm.database.HelperFactory;
+import org.hrorm.examples.Simple;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StatementCacheTest {
+
+    private static Helper helper = HelperFactory.forSchema("simple");
+
+    @BeforeClass
+    public static void setUpDb(){
+        helper.initializeSchema();
+    }
+
+    @AfterClass
+    public static void cleanUpDb(){
+        helper.dropSchema();
+    }
+
+    private DaoBuilder<Simple> daoBuilder(){
+        return new DaoBuilder<>("simple", Simple::new)
+                .withPrimaryKey("simple_id", "simple_seq", Simple::getId, Simple::setId)
+                .withStringColumn("field", Simple::getField, Simple::setField)
+                .withStatementCacheSize(2);
+    }
+
+    @Test
+    public void testReleasedStatementsAreReused() throws SQLException {
+        Connection connection = helper.connect();
+        StatementCache statementCache = new StatementCache(connection, 2);
+        String sql = "select field from simple where simple_id = ?";
+
+        PreparedStatement first = statementCache.prepare(sql);
+        statementCache.release(sql, first);
+        PreparedStatement second = statementCache.prepare(sql);
+
+        Assert.assertSame(first, second);
+        Assert.assertFalse(second.isClosed());
+
+        statementCache.release(sql, second);
+        statementCache.close();
+        Assert.assertTrue(first.isClosed());
+        connection.close();
+    }
+
+    @Test
+    public void testStatementsInUseAreNotShared() throws SQLException {
+        Connection connection = helper.connect();
+        StatementCache statementCache = new StatementCache(connection, 2);
+        String sql = "select field from simple where simple_id = ?";
+
+        PreparedStatement outer = statementCache.prepare(sql);
+        PreparedStatement inner = statementCache.prepare(sql);
+
+        Assert.assertNotSame(outer, inner);
+
+        statementCache.release(sql, inner);
+        Assert.assertTrue(inner.isClosed());
+        Assert.assertFalse(outer.isClosed());
+
+        statementCache.release(sql, outer);
+        statementCache.close();
+        connection.close();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsClosed() throws SQLException {
+        Connection connection = helper.connect();
+        StatementCache statementCache = new StatementCache(connection, 2);
+        List<String> sqls = Arrays.asList(
+                "select field from simple where simple_id = ?",
+                "select simple_id from simple where field = ?",
+                "select count(*) from simple where field = ?");
+
+        PreparedStatement first = statementCache.prepare(sqls.get(0));
+        statementCache.release(sqls.get(0), first);
+        PreparedStatement second = statementCache.prepare(sqls.get(1));
+        statementCache.release(sqls.get(1), second);
+        PreparedStatement third = statementCache.prepare(sqls.get(2));
+        statementCache.release(sqls.get(2), third);
+
+        Assert.assertTrue(first.isClosed());
+        Assert.assertFalse(second.isClosed());
+        Assert.assertFalse(third.isClosed());
+
+        statementCache.close();
+        connection.close();
+    }
+
+    @Test
+    public void testUncachedStatementsAreClosed() throws SQLException {
+        Connection connection = helper.connect();
+        StatementCache statementCache = StatementCache.uncached(connection);
+        String sql = "select field from simple where simple_id = ?";
+
+        PreparedStatement statement = statementCache.prepare(sql);
+        statementCache.release(sql, statement);
+
+        Assert.assertTrue(statement.isClosed());
+        connection.close();
+    }
+
+    @Test
+    public void testCachingDao() throws SQLException {
+        Connection connection = helper.connect();
+        Dao<Simple> dao = daoBuilder().buildDao(connection);
+
+        for( int idx = 0; idx < 10; idx++ ){
+            Simple simple = new Simple();
+            simple.setField("Caching Dao Test " + idx);
+            dao.insert(simple);
+
+            simple.setField("Caching Dao Test Updated " + idx);
+            dao.update(simple);
+
+            Simple read = dao.select(simple.getId());
+            Assert.assertEquals(simple, read);
+        }
+
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    public void testCachingDaoDrainsOnAtomicOperations() throws SQLException {
+        Simple simple = new Simple();
+        simple.setField("Caching Dao Atomic Test");
+        {
+            Connection connection = helper.connect();
+            Dao<Simple> dao = daoBuilder().buildDao(connection);
+            dao.atomicInsert(simple);
+            Assert.assertTrue(connection.isClosed());
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Simple> dao = daoBuilder().buildDao(connection);
+            Simple read = dao.select(simple.getId());
+            Assert.assertEquals(simple, read);
+            dao.atomicDelete(read);
+        }
+        {
+            Connection connection = helper.connect();
+            Dao<Simple> dao = daoBuilder().buildDao(connection);
+            Assert.assertNull(dao.select(simple.getId()));
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testViewsLeaveNoStatementsOpen() throws SQLException {
+        Connection connection = helper.connect();
+        Simple simple = new Simple();
+        simple.setField("Caching Dao View Test");
+        daoBuilder().buildDao(connection).insert(simple);
+
+        List<PreparedStatement> prepared = new ArrayList<>();
+        Dao<Simple> dao = daoBuilder().buildDao(recordingConnection(connection, prepared));
+        Where where = Where.where("field", Operator.EQUALS, "Caching Dao View Test");
+        for( int idx = 0; idx < 10; idx++ ){
+            Assert.assertEquals(1, dao.withoutChildren().select(where).size());
+            Assert.assertEquals(1, dao.withStatementOptions(dao.statementOptions().withMaxRows(10)).select(where).size());
+            Assert.assertEquals(1, dao.withFetchedJoins().select(where).size());
+            Assert.assertEquals(simple, dao.withoutChildren().select(simple.getId()));
+        }
+
+        int open = 0;
+        for( PreparedStatement statement : prepared ){
+            if ( ! statement.isClosed() ){
+                open++;
+            }
+        }
+        Assert.assertTrue(open <= 2);
+
+        connection.rollback();
+        connection.close();
+    }
+
+    /**
+     * A connection that records every statement it prepares.
+     */
+    private static Connection recordingConnection(Connection connection, List<PreparedStatement> prepared){
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{ Connection.class },
+                (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(connection, args);
+                        if ( result instanceof PreparedStatement ){
+                            prepared.add((PreparedStatement) result);
+                        }
+                        return result;
+                    } catch (InvocationTargetException ex){
+                        throw ex.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,11 @@
+package org.hrorm.examples;
+
+import lombok.Data;
+
+@Data
+public class Primitives {
+    private Long id;
+    private long longValue;
+    private int intValue;
+    private double doubleValue;
+}
@@ -0,0 +1,10 @@
+package org.hrorm.examples.siblings;
+
+import lombok.Data;
+
+@Data
+public class SiblingPair {
+    private Long id;
+    private Sibling first;
+    private Sibling second;
+}
@@ -27,4 +27,12 @@ create sequence second_cousin_seq;
 create table second_cousins (
     second_cousin_id integer primary key,
     datetime timestamp
+);
+
+create sequence sibling_pair_seq;
+
+create table sibling_pairs (
+    sibling_pair_id integer primary key,
+    first_sibling_id integer,
+    second_sibling_id integer
 );
\ No newline at end of file
@@ -0,0 +1,8 @@
+create sequence primitives_seq;
+
+create table primitives (
+  id bigint PRIMARY KEY,
+  long_column bigint,
+  int_column integer,
+  double_column double
+);
@@ -0,0 +1,4 @@
+create sequence blocked_seq increment by 10;
+create table blocked (
+    blocked_id integer PRIMARY KEY,
+    field text );